@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.Callable;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func1;
+import rx.functions.Func2;
+import rx.functions.Func3;
+import rx.functions.Func4;
+import rx.functions.Func5;
+import rx.functions.Func6;
+import rx.functions.Func7;
+import rx.functions.Func8;
+import rx.functions.Func9;
+
+/**
+ * Adapters that turn plain blocking functions into comprehension stages.
+ * <p>
+ * Each adapted stage calls the blocking function inside {@link Observable#fromCallable(Callable)} subscribed on the given {@link Scheduler}, instead of wrapping every call site by hand.
+ * Pass a {@link Scheduler} backed by cheap threads to keep I/O-heavy comprehensions from growing {@link rx.schedulers.Schedulers#io()} to thousands of platform threads;
+ * on Java 21 and later that is {@code Schedulers.from(Executors.newVirtualThreadPerTaskExecutor())}.
+ *
+ * @author pakoito
+ */
+public final class BlockingStages {
+    private BlockingStages() {
+        // No instances
+    }
+
+    /**
+     * Adapts a blocking {@link Func1} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, R> Func1<A, Observable<R>> stage(final Scheduler scheduler, final Func1<A, R> function) {
+        return new Func1<A, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func2} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, R> Func2<A, B, Observable<R>> stage(final Scheduler scheduler, final Func2<A, B, R> function) {
+        return new Func2<A, B, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func3} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, R> Func3<A, B, C, Observable<R>> stage(final Scheduler scheduler, final Func3<A, B, C, R> function) {
+        return new Func3<A, B, C, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func4} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, R> Func4<A, B, C, D, Observable<R>> stage(final Scheduler scheduler, final Func4<A, B, C, D, R> function) {
+        return new Func4<A, B, C, D, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c, final D d) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c, d);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func5} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, R> Func5<A, B, C, D, E, Observable<R>> stage(final Scheduler scheduler, final Func5<A, B, C, D, E, R> function) {
+        return new Func5<A, B, C, D, E, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c, final D d, final E e) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c, d, e);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func6} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, R> Func6<A, B, C, D, E, F, Observable<R>> stage(final Scheduler scheduler, final Func6<A, B, C, D, E, F, R> function) {
+        return new Func6<A, B, C, D, E, F, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c, final D d, final E e, final F f) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c, d, e, f);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func7} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, G, R> Func7<A, B, C, D, E, F, G, Observable<R>> stage(final Scheduler scheduler, final Func7<A, B, C, D, E, F, G, R> function) {
+        return new Func7<A, B, C, D, E, F, G, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c, final D d, final E e, final F f, final G g) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c, d, e, f, g);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func8} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, G, H, R> Func8<A, B, C, D, E, F, G, H, Observable<R>> stage(final Scheduler scheduler, final Func8<A, B, C, D, E, F, G, H, R> function) {
+        return new Func8<A, B, C, D, E, F, G, H, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c, d, e, f, g, h);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Func9} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Func9<A, B, C, D, E, F, G, H, I, Observable<R>> stage(final Scheduler scheduler, final Func9<A, B, C, D, E, F, G, H, I, R> function) {
+        return new Func9<A, B, C, D, E, F, G, H, I, Observable<R>>() {
+            @Override
+            public Observable<R> call(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h, final I i) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.call(a, b, c, d, e, f, g, h, i);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+}
@@ -35,6 +35,13 @@ import rx.functions.Func9;
  * @author pakoito
  */
 public final class RxComprehensions {
+    private static final Func1<Observable<Object>, Observable<Object>> FLATTEN = new Func1<Observable<Object>, Observable<Object>>() {
+        @Override
+        public Observable<Object> call(Observable<Object> observable) {
+            return observable;
+        }
+    };
+
     private RxComprehensions() {
         // No instances
     }
@@ -1119,6 +1126,207 @@ public final class RxComprehensions {
         });
     }
 
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func3<A, B, C, Observable<R>> three) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), new Func2<B, C, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c) {
+                                return three.call(a, b, c);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func1<A, Observable<D>> three,
+            final Func4<A, B, C, D, Observable<R>> four) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), three.call(a), new Func3<B, C, D, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c, D d) {
+                                return four.call(a, b, c, d);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func1<A, Observable<D>> three,
+            final Func1<A, Observable<E>> four,
+            final Func5<A, B, C, D, E, Observable<R>> five) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), three.call(a), four.call(a), new Func4<B, C, D, E, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c, D d, E e) {
+                                return five.call(a, b, c, d, e);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func1<A, Observable<D>> three,
+            final Func1<A, Observable<E>> four,
+            final Func1<A, Observable<F>> five,
+            final Func6<A, B, C, D, E, F, Observable<R>> six) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), three.call(a), four.call(a), five.call(a), new Func5<B, C, D, E, F, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c, D d, E e, F f) {
+                                return six.call(a, b, c, d, e, f);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func1<A, Observable<D>> three,
+            final Func1<A, Observable<E>> four,
+            final Func1<A, Observable<F>> five,
+            final Func1<A, Observable<G>> six,
+            final Func7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), three.call(a), four.call(a), five.call(a), six.call(a), new Func6<B, C, D, E, F, G, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c, D d, E e, F f, G g) {
+                                return seven.call(a, b, c, d, e, f, g);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func1<A, Observable<D>> three,
+            final Func1<A, Observable<E>> four,
+            final Func1<A, Observable<F>> five,
+            final Func1<A, Observable<G>> six,
+            final Func1<A, Observable<H>> seven,
+            final Func8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), three.call(a), four.call(a), five.call(a), six.call(a), seven.call(a), new Func7<B, C, D, E, F, G, H, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c, D d, E e, F f, G g, H h) {
+                                return eight.call(a, b, c, d, e, f, g, h);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link rx.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(Observable, Observable, Func2)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doZip(
+            final Func0<Observable<A>> zero,
+            final Func1<A, Observable<B>> one,
+            final Func1<A, Observable<C>> two,
+            final Func1<A, Observable<D>> three,
+            final Func1<A, Observable<E>> four,
+            final Func1<A, Observable<F>> five,
+            final Func1<A, Observable<G>> six,
+            final Func1<A, Observable<H>> seven,
+            final Func1<A, Observable<I>> eight,
+            final Func9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        return zero.call()
+                .flatMap(new Func1<A, Observable<R>>() {
+                    @Override
+                    public Observable<R> call(final A a) {
+                        return Observable.zip(one.call(a), two.call(a), three.call(a), four.call(a), five.call(a), six.call(a), seven.call(a), eight.call(a), new Func8<B, C, D, E, F, G, H, I, Observable<R>>() {
+                            @Override
+                            public Observable<R> call(B b, C c, D d, E e, F f, G g, H h, I i) {
+                                return nine.call(a, b, c, d, e, f, g, h, i);
+                            }
+                        }).flatMap(RxComprehensions.<R>flatten());
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Func1<Observable<R>, Observable<R>> flatten() {
+        return (Func1<Observable<R>, Observable<R>>) (Func1<?, ?>) FLATTEN;
+    }
+
     /**
      * Composes an {@link rx.Observable} from multiple {@link Transformer} chained by {@link Observable#compose(Transformer)}.
      *
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.functions.Func2;
+import rx.schedulers.Schedulers;
+
+public class BlockingStagesTest {
+    @Test
+    public void runsOnScheduler() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(named("blocking-stage"));
+        try {
+            final Scheduler scheduler = Schedulers.from(executor);
+            Assert.assertEquals(RxComprehensions.doFlatMap(zero(2), BlockingStages.stage(scheduler, threadName()), BlockingStages.stage(scheduler, concat())).toBlocking().first(), "blocking-stage2");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void errorsArePropagated() {
+        final IllegalStateException error = new IllegalStateException();
+        try {
+            BlockingStages.stage(Schedulers.immediate(), new Func1<Integer, String>() {
+                @Override
+                public String call(Integer integer) {
+                    throw error;
+                }
+            }).call(1).toBlocking().first();
+            Assert.fail();
+        } catch (Exception e) {
+            Assert.assertSame(error, e);
+        }
+    }
+
+    // region Helpers
+
+    private Func0<Observable<Integer>> zero(final int i) {
+        return new Func0<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.just(i);
+            }
+        };
+    }
+
+    private Func1<Integer, String> threadName() {
+        return new Func1<Integer, String>() {
+            @Override
+            public String call(Integer integer) {
+                return Thread.currentThread().getName();
+            }
+        };
+    }
+
+    private Func2<Integer, String, String> concat() {
+        return new Func2<Integer, String, String>() {
+            @Override
+            public String call(Integer integer, String s) {
+                return s + integer;
+            }
+        };
+    }
+
+    private ThreadFactory named(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, name);
+            }
+        };
+    }
+
+    // endregion
+}
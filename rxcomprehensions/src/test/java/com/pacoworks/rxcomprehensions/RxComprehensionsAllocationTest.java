@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+import rx.Observable;
+import rx.Observable.Transformer;
+import rx.Observer;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.functions.Func2;
+import rx.functions.Func3;
+import rx.functions.Func4;
+import rx.functions.Func5;
+import rx.functions.Func6;
+import rx.functions.Func7;
+import rx.functions.Func8;
+import rx.functions.Func9;
+
+/**
+ * Measures the bytes allocated per element by every comprehension overload, and fails when one exceeds the checked-in baseline
+ * in {@code allocation-baseline.properties} by more than {@link #TOLERANCE} plus {@link #SLACK_BYTES}.
+ * <p>
+ * The baseline depends on the JIT removing allocations through escape analysis, so it only holds on a JVM running the
+ * optimizing compiler. Gradle runs it in the {@code allocationTest} task, part of {@code check}, with those compiler flags;
+ * elsewhere it's skipped unless run with {@code -Drxcomprehensions.allocation=true}, and it's always skipped on JVMs without
+ * escape analysis or with compilation stopped before the optimizing tier.
+ * Run with {@code -Drxcomprehensions.allocation.record=true}, or {@code -PrecordAllocation} from Gradle, to print the measured
+ * values in the baseline format instead of asserting.
+ */
+@SuppressWarnings("unchecked")
+public class RxComprehensionsAllocationTest {
+    private static final String BASELINE = "/allocation-baseline.properties";
+
+    private static final String ENABLED_PROPERTY = "rxcomprehensions.allocation";
+
+    private static final String RECORD_PROPERTY = "rxcomprehensions.allocation.record";
+
+    private static final double TOLERANCE = 0.25;
+
+    private static final long SLACK_BYTES = 8;
+
+    private static final int ELEMENTS = 100;
+
+    private static final int WARMUP_RUNS = 3000;
+
+    private static final int MEASURED_RUNS = 300;
+
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private static Properties baseline;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        Assume.assumeTrue(Boolean.getBoolean(ENABLED_PROPERTY) || Boolean.getBoolean(RECORD_PROPERTY));
+        Assume.assumeTrue(optimizingCompiler());
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        baseline = new Properties();
+        final InputStream stream = RxComprehensionsAllocationTest.class.getResourceAsStream(BASELINE);
+        Assert.assertNotNull("Missing " + BASELINE, stream);
+        try {
+            baseline.load(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static boolean optimizingCompiler() throws IOException {
+        if (ManagementFactory.getCompilationMXBean() == null) {
+            return false;
+        }
+        final com.sun.management.HotSpotDiagnosticMXBean diagnostics;
+        try {
+            diagnostics = ManagementFactory.newPlatformMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+                    "com.sun.management:type=HotSpotDiagnostic", com.sun.management.HotSpotDiagnosticMXBean.class);
+            if (!Boolean.parseBoolean(diagnostics.getVMOption("DoEscapeAnalysis").getValue())) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not HotSpot
+            return false;
+        }
+        try {
+            return Integer.parseInt(diagnostics.getVMOption("TieredStopAtLevel").getValue()) >= 4;
+        } catch (IllegalArgumentException e) {
+            // Not tiered, so the optimizing compiler is the only one
+            return true;
+        }
+    }
+
+    @Test
+    public void flatMap() throws Exception {
+        assertWithinBaseline("doFlatMap",
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE, FOUR);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doFlatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE);
+                    }
+                });
+    }
+
+    @Test
+    public void concatMap() throws Exception {
+        assertWithinBaseline("doConcatMap",
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE, FOUR);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doConcatMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE);
+                    }
+                });
+    }
+
+    @Test
+    public void switchMap() throws Exception {
+        assertWithinBaseline("doSwitchMap",
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE, FOUR);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE, FOUR, FIVE);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doSwitchMap(ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE);
+                    }
+                });
+    }
+
+    @Test
+    public void compose() throws Exception {
+        assertWithinBaseline("doCompose",
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                },
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return RxComprehensions.doCompose(ZERO, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY, IDENTITY);
+                    }
+                });
+    }
+
+    private static void assertWithinBaseline(String name, Callable<Observable<Integer>>... pipelines) throws Exception {
+        final boolean record = Boolean.getBoolean(RECORD_PROPERTY);
+        final StringBuilder failures = new StringBuilder();
+        for (int i = 0; i < pipelines.length; i++) {
+            final String key = name + "." + (i + 1);
+            final long measured = bytesPerElement(pipelines[i]);
+            if (record) {
+                System.out.println(key + "=" + measured);
+                continue;
+            }
+            final String expected = baseline.getProperty(key);
+            Assert.assertNotNull("Missing baseline for " + key, expected);
+            if (measured > Long.parseLong(expected) * (1 + TOLERANCE) + SLACK_BYTES) {
+                failures.append(key).append(": ").append(measured).append(" bytes per element, baseline ").append(expected).append('\n');
+            }
+        }
+        Assert.assertEquals(failures.toString(), 0, failures.length());
+    }
+
+    private static long bytesPerElement(Callable<Observable<Integer>> pipeline) throws Exception {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            pipeline.call().subscribe(SINK);
+        }
+        final long threadId = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                pipeline.call().subscribe(SINK);
+            }
+            final long after = threads.getThreadAllocatedBytes(threadId);
+            least = Math.min(least, after - before);
+        }
+        return least / ((long) MEASURED_RUNS * ELEMENTS);
+    }
+
+    // region Helpers
+
+    private static final Func0<Observable<Integer>> ZERO = new Func0<Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call() {
+            return Observable.range(0, ELEMENTS);
+        }
+    };
+
+    private static final Func1<Integer, Observable<Integer>> ONE = new Func1<Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a) {
+            return Observable.just(a);
+        }
+    };
+
+    private static final Func2<Integer, Integer, Observable<Integer>> TWO = new Func2<Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b) {
+            return Observable.just(b);
+        }
+    };
+
+    private static final Func3<Integer, Integer, Integer, Observable<Integer>> THREE = new Func3<Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c) {
+            return Observable.just(c);
+        }
+    };
+
+    private static final Func4<Integer, Integer, Integer, Integer, Observable<Integer>> FOUR = new Func4<Integer, Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c, Integer d) {
+            return Observable.just(d);
+        }
+    };
+
+    private static final Func5<Integer, Integer, Integer, Integer, Integer, Observable<Integer>> FIVE = new Func5<Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c, Integer d, Integer e) {
+            return Observable.just(e);
+        }
+    };
+
+    private static final Func6<Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>> SIX = new Func6<Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c, Integer d, Integer e, Integer f) {
+            return Observable.just(f);
+        }
+    };
+
+    private static final Func7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>> SEVEN = new Func7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c, Integer d, Integer e, Integer f, Integer g) {
+            return Observable.just(g);
+        }
+    };
+
+    private static final Func8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>> EIGHT = new Func8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c, Integer d, Integer e, Integer f, Integer g, Integer h) {
+            return Observable.just(h);
+        }
+    };
+
+    private static final Func9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>> NINE = new Func9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+        @Override
+        public Observable<Integer> call(Integer a, Integer b, Integer c, Integer d, Integer e, Integer f, Integer g, Integer h, Integer i) {
+            return Observable.just(i);
+        }
+    };
+    private static final Transformer<Integer, Integer> IDENTITY = new Transformer<Integer, Integer>() {
+        @Override
+        public Observable<Integer> call(Observable<Integer> upstream) {
+            return upstream.map(new Func1<Integer, Integer>() {
+                @Override
+                public Integer call(Integer integer) {
+                    return integer;
+                }
+            });
+        }
+    };
+
+    private static final Observer<Integer> SINK = new Observer<Integer>() {
+        @Override
+        public void onCompleted() {
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            throw new AssertionError(e);
+        }
+
+        @Override
+        public void onNext(Integer integer) {
+        }
+    };
+
+    // endregion
+
+}
@@ -282,6 +282,16 @@ public class RxComprehensionsTest {
         Assert.assertEquals((RxComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString()).toBlocking().first()), "5");
     }
 
+    @Test
+    public void twoZip() {
+        Assert.assertEquals(RxComprehensions.doZip(zero(3), plus(1), plus(2), sum()).toBlocking().first(), Integer.valueOf(3 + 4 + 5));
+    }
+
+    @Test
+    public void eightZip() {
+        Assert.assertEquals(RxComprehensions.doZip(zero(0), plus(1), plus(2), plus(3), plus(4), plus(5), plus(6), plus(7), plus(8), sumAll()).toBlocking().first(), Integer.valueOf(36));
+    }
+
     // region Helpers
 
     private Func0<Observable<Integer>> zero(final int i) {
@@ -408,5 +418,32 @@ public class RxComprehensionsTest {
         };
     }
 
+    private Func1<Integer, Observable<Integer>> plus(final int value) {
+        return new Func1<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call(Integer integer) {
+                return Observable.just(integer + value);
+            }
+        };
+    }
+
+    private Func3<Integer, Integer, Integer, Observable<Integer>> sum() {
+        return new Func3<Integer, Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call(Integer integer, Integer integer2, Integer integer3) {
+                return Observable.just(integer + integer2 + integer3);
+            }
+        };
+    }
+
+    private Func9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>> sumAll() {
+        return new Func9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call(Integer integer, Integer integer2, Integer integer3, Integer integer4, Integer integer5, Integer integer6, Integer integer7, Integer integer8, Integer integer9) {
+                return Observable.just(integer + integer2 + integer3 + integer4 + integer5 + integer6 + integer7 + integer8 + integer9);
+            }
+        };
+    }
+
     // endregion
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
+
+/**
+ * Caps the number of concurrent subscriptions to every inner {@link Observable} isolated by the same instance,
+ * adjusting the cap from the observed latency with additive-increase/multiplicative-decrease.
+ * <p>
+ * Every subscription that completes under {@code latencyThreshold} while the limiter is at least half used raises the limit by one.
+ * Every subscription that fails or exceeds {@code latencyThreshold} multiplies the limit by {@code backoffRatio}.
+ * Subscriptions over the limit wait in a queue, as in {@link Bulkhead}.
+ *
+ * @author pakoito
+ */
+public final class AdaptiveLimiter {
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private final Aimd aimd;
+
+    private AdaptiveLimiter(Aimd aimd) {
+        this.aimd = aimd;
+    }
+
+    /**
+     * Creates an {@link AdaptiveLimiter} starting at {@code initialLimit}, kept between {@code minLimit} and {@code maxLimit},
+     * backing off by 10% on each slow or failed subscription.
+     *
+     * @return new AdaptiveLimiter
+     */
+    public static AdaptiveLimiter create(int initialLimit, int minLimit, int maxLimit, long latencyThreshold, TimeUnit unit) {
+        return create(initialLimit, minLimit, maxLimit, latencyThreshold, unit, DEFAULT_BACKOFF_RATIO);
+    }
+
+    /**
+     * Creates an {@link AdaptiveLimiter} starting at {@code initialLimit}, kept between {@code minLimit} and {@code maxLimit},
+     * multiplying the limit by {@code backoffRatio} on each slow or failed subscription.
+     *
+     * @return new AdaptiveLimiter
+     */
+    public static AdaptiveLimiter create(int initialLimit, int minLimit, int maxLimit, long latencyThreshold, TimeUnit unit, double backoffRatio) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 0 < minLimit <= initialLimit <= maxLimit: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio not in (0, 1): " + backoffRatio);
+        }
+        return new AdaptiveLimiter(new Aimd(initialLimit, minLimit, maxLimit, unit.toNanos(latencyThreshold), backoffRatio));
+    }
+
+    /**
+     * Transformer subscribing to its upstream only when this {@link AdaptiveLimiter} is under its current limit.
+     *
+     * @return isolating transformer
+     */
+    public <T> ObservableTransformer<T, T> isolate() {
+        return aimd.admit();
+    }
+
+    /**
+     * @return current limit
+     */
+    public int limit() {
+        return aimd.limit();
+    }
+
+    /**
+     * Transformer subscribing to its upstream only when this {@link AdaptiveLimiter} has capacity for it.
+     * While waiting for capacity, subscriptions with a higher {@code priority} are started first,
+     * and subscriptions with the same {@code priority} in arrival order.
+     * {@link #isolate()} uses priority 0.
+     *
+     * @return isolating transformer
+     */
+    public <T> ObservableTransformer<T, T> isolate(int priority) {
+        return aimd.admit(priority);
+    }
+
+    /**
+     * @return number of subscriptions currently running
+     */
+    public int running() {
+        return aimd.inFlight();
+    }
+
+    /**
+     * @return number of subscriptions waiting for capacity
+     */
+    public int queued() {
+        return aimd.queued();
+    }
+
+    private static final class Aimd extends Admission {
+        private final int minLimit;
+
+        private final int maxLimit;
+
+        private final long latencyThresholdNanos;
+
+        private final double backoffRatio;
+
+        private volatile int limit;
+
+        Aimd(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+            super(Integer.MAX_VALUE);
+            this.limit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThresholdNanos = latencyThresholdNanos;
+            this.backoffRatio = backoffRatio;
+        }
+
+        @Override
+        int limit() {
+            return limit;
+        }
+
+        @Override
+        void onRelease(long latencyNanos, boolean failed) {
+            final boolean raised;
+            synchronized (this) {
+                final int current = limit;
+                if (failed || latencyNanos > latencyThresholdNanos) {
+                    limit = Math.max(minLimit, (int) (current * backoffRatio));
+                    raised = false;
+                } else if (inFlight() * 2 >= current && current < maxLimit) {
+                    limit = current + 1;
+                    raised = true;
+                } else {
+                    raised = false;
+                }
+            }
+            if (raised) {
+                drain();
+            }
+        }
+    }
+}
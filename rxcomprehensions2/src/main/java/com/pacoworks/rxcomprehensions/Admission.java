@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Cancellable;
+
+/**
+ * Admission control shared by every inner {@link Observable} composed with {@link #admit()}.
+ * <p>
+ * Subscriptions over the current {@link #limit()} wait in a queue, and are started as earlier ones terminate or are disposed.
+ * Waiting subscriptions are started highest priority first, and in arrival order within the same priority.
+ *
+ * @author pakoito
+ */
+abstract class Admission {
+    private final int maxQueued;
+
+    private static final Comparator<Ticket<?>> PRIORITY_ORDER = new Comparator<Ticket<?>>() {
+        @Override
+        public int compare(Ticket<?> left, Ticket<?> right) {
+            if (left.priority != right.priority) {
+                return left.priority > right.priority ? -1 : 1;
+            }
+            return left.sequence < right.sequence ? -1 : (left.sequence == right.sequence ? 0 : 1);
+        }
+    };
+
+    private final Queue<Ticket<?>> queue = new PriorityQueue<Ticket<?>>(11, PRIORITY_ORDER);
+
+    private final ObservableTransformer<Object, Object> transformer = new PriorityTransformer(0);
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private int inFlight;
+
+    private long sequence;
+
+    Admission(int maxQueued) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued < 0: " + maxQueued);
+        }
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * @return maximum number of subscriptions running at the same time
+     */
+    abstract int limit();
+
+    /**
+     * Called after a started subscription terminates, before the next one is admitted.
+     *
+     * @param latencyNanos time between the start of the subscription and its terminal event
+     * @param failed whether it terminated with an error
+     */
+    void onRelease(long latencyNanos, boolean failed) {
+    }
+
+    /**
+     * Called once for every subscription after it's rejected, disposed, or terminated.
+     */
+    void onDone() {
+    }
+
+    /**
+     * Signals a subscription rejected because the queue is full. Called outside the lock, after {@link #onDone()}.
+     */
+    void onReject(ObservableEmitter<?> emitter) {
+        emitter.onError(new RejectedExecutionException("Admission queue full"));
+    }
+
+    @SuppressWarnings("unchecked")
+    final <T> ObservableTransformer<T, T> admit() {
+        return (ObservableTransformer<T, T>) (ObservableTransformer<?, ?>) transformer;
+    }
+
+    @SuppressWarnings("unchecked")
+    final <T> ObservableTransformer<T, T> admit(int priority) {
+        return (ObservableTransformer<T, T>) (ObservableTransformer<?, ?>) (priority == 0 ? transformer : new PriorityTransformer(priority));
+    }
+
+    final synchronized int inFlight() {
+        return inFlight;
+    }
+
+    final synchronized int queued() {
+        return queue.size();
+    }
+
+    private void enqueue(Ticket<?> ticket) {
+        final boolean admitted;
+        synchronized (this) {
+            admitted = inFlight < limit();
+            if (admitted) {
+                inFlight++;
+            } else if (queue.size() < maxQueued) {
+                ticket.sequence = sequence++;
+                queue.offer(ticket);
+                return;
+            }
+        }
+        // Signals happen outside the lock so subscribers can't stall other admissions
+        if (!admitted) {
+            ticket.reject();
+        } else if (!ticket.start()) {
+            release();
+        }
+    }
+
+    private void remove(Ticket<?> ticket) {
+        synchronized (this) {
+            queue.remove(ticket);
+        }
+    }
+
+    final void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Starts queued subscriptions while under {@link #limit()}. Call after raising the limit.
+     */
+    final void drain() {
+        // Subscriptions terminating synchronously while started below are picked up by this loop instead of recursing
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (true) {
+                final Ticket<?> next;
+                synchronized (this) {
+                    if (inFlight >= limit() || queue.isEmpty()) {
+                        break;
+                    }
+                    next = queue.poll();
+                    inFlight++;
+                }
+                if (!next.start()) {
+                    synchronized (this) {
+                        inFlight--;
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private final class PriorityTransformer implements ObservableTransformer<Object, Object> {
+        private final int priority;
+
+        PriorityTransformer(int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public ObservableSource<Object> apply(final Observable<Object> upstream) {
+            return Observable.create(new ObservableOnSubscribe<Object>() {
+                @Override
+                public void subscribe(ObservableEmitter<Object> emitter) {
+                    final Ticket<Object> ticket = new Ticket<Object>(upstream, emitter, priority);
+                    emitter.setCancellable(ticket);
+                    enqueue(ticket);
+                }
+            });
+        }
+    }
+
+    private final class Ticket<T> implements Observer<T>, Cancellable {
+        private static final int QUEUED = 0;
+
+        private static final int RUNNING = 1;
+
+        private static final int DONE = 2;
+
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private final AtomicReference<Disposable> upstreamDisposable = new AtomicReference<Disposable>();
+
+        private final Observable<T> upstream;
+
+        private final ObservableEmitter<T> emitter;
+
+        private final int priority;
+
+        private long sequence;
+
+        private volatile long startNanos;
+
+        Ticket(Observable<T> upstream, ObservableEmitter<T> emitter, int priority) {
+            this.upstream = upstream;
+            this.emitter = emitter;
+            this.priority = priority;
+        }
+
+        boolean start() {
+            startNanos = System.nanoTime();
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return false;
+            }
+            upstream.subscribe(this);
+            return true;
+        }
+
+        void reject() {
+            if (!state.compareAndSet(QUEUED, DONE)) {
+                return;
+            }
+            onDone();
+            onReject(emitter);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (!upstreamDisposable.compareAndSet(null, d)) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onNext(T value) {
+            emitter.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (finish(true)) {
+                emitter.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (finish(false)) {
+                emitter.onComplete();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (state.compareAndSet(QUEUED, DONE)) {
+                remove(this);
+                onDone();
+            } else if (state.compareAndSet(RUNNING, DONE)) {
+                final Disposable d = upstreamDisposable.getAndSet(Disposables.disposed());
+                if (d != null) {
+                    d.dispose();
+                }
+                release();
+                onDone();
+            }
+        }
+
+        private boolean finish(boolean failed) {
+            if (!state.compareAndSet(RUNNING, DONE)) {
+                return false;
+            }
+            onRelease(System.nanoTime() - startNanos, failed);
+            release();
+            onDone();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+
+/**
+ * Stages aggregating the results of the previous stage incrementally, over count or time windows.
+ * <p>
+ * Each window folds its elements into a single accumulator created by {@code seed}, instead of buffering them in a {@link java.util.List},
+ * and emits it when the window closes so the next stage receives the aggregate:
+ * <pre>{@code
+ * RxComprehensions.doCompose(
+ *     () -> orders(),
+ *     Aggregations.reduceEvery(1, TimeUnit.SECONDS, Schedulers.computation(), () -> 0L, (total, order) -> total + order.amount),
+ *     publishRevenue()
+ * );
+ * }</pre>
+ *
+ * @author pakoito
+ */
+public final class Aggregations {
+    private Aggregations() {
+        // No instances
+    }
+
+    /**
+     * Reduces every {@code count} elements, and the remaining ones on completion, into a fresh accumulator from {@code seed}.
+     *
+     * @return aggregating transformer
+     */
+    public static <T, S> ObservableTransformer<T, S> reduceEvery(final long count, final Callable<S> seed, final BiFunction<S, ? super T, S> reducer) {
+        return new ObservableTransformer<T, S>() {
+            @Override
+            public ObservableSource<S> apply(Observable<T> upstream) {
+                return upstream.window(count).flatMap(Aggregations.<T, S>reduceWindow(seed, reducer));
+            }
+        };
+    }
+
+    /**
+     * Reduces the elements of every {@code timespan} into a fresh accumulator from {@code seed}. Windows without elements emit the seed.
+     *
+     * @return aggregating transformer
+     */
+    public static <T, S> ObservableTransformer<T, S> reduceEvery(final long timespan, final TimeUnit unit, final Scheduler scheduler, final Callable<S> seed, final BiFunction<S, ? super T, S> reducer) {
+        return new ObservableTransformer<T, S>() {
+            @Override
+            public ObservableSource<S> apply(Observable<T> upstream) {
+                return upstream.window(timespan, unit, scheduler).flatMap(Aggregations.<T, S>reduceWindow(seed, reducer));
+            }
+        };
+    }
+
+    private static <T, S> Function<Observable<T>, Observable<S>> reduceWindow(final Callable<S> seed, final BiFunction<S, ? super T, S> reducer) {
+        return new Function<Observable<T>, Observable<S>>() {
+            @Override
+            public Observable<S> apply(Observable<T> window) {
+                return window.reduceWith(seed, reducer).toObservable();
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.functions.Cancellable;
+
+/**
+ * Stages reading and writing files through {@link AsynchronousFileChannel}, completing from its callbacks instead of blocking a thread:
+ * <pre>{@code
+ * RxComprehensions.doFlatMap(
+ *     () -> uploads(),
+ *     upload -> render(upload),
+ *     (upload, rendered) -> AsyncFileStages.write(upload.path, 0, rendered)
+ * );
+ * }</pre>
+ * Each subscription opens its own channel and closes it when done or disposed. Requires Java 7, or Android API 26.
+ *
+ * @author pakoito
+ */
+public final class AsyncFileStages {
+    private AsyncFileStages() {
+        // No instances
+    }
+
+    /**
+     * Reads up to {@code size} bytes of {@code path} starting at {@code position}, stopping early at the end of the file.
+     *
+     * @return Observable of a buffer ready to be read
+     */
+    public static Observable<ByteBuffer> read(final Path path, final long position, final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size < 0: " + size);
+        }
+        return Observable.create(new ObservableOnSubscribe<ByteBuffer>() {
+            @Override
+            public void subscribe(final ObservableEmitter<ByteBuffer> emitter) throws IOException {
+                final AsynchronousFileChannel channel = open(emitter, path, StandardOpenOption.READ);
+                final ByteBuffer buffer = ByteBuffer.allocate(size);
+                channel.read(buffer, position, buffer, new CompletionHandler<Integer, ByteBuffer>() {
+                    @Override
+                    public void completed(Integer read, ByteBuffer buffer) {
+                        if (read >= 0 && buffer.hasRemaining() && !emitter.isDisposed()) {
+                            channel.read(buffer, position + buffer.position(), buffer, this);
+                            return;
+                        }
+                        buffer.flip();
+                        emitter.onNext(buffer);
+                        emitter.onComplete();
+                    }
+
+                    @Override
+                    public void failed(Throwable throwable, ByteBuffer buffer) {
+                        fail(emitter, throwable);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Writes the remaining bytes of {@code data} to {@code path} starting at {@code position}, creating the file if missing.
+     * The position of {@code data} is not modified, so the same buffer can be written by every subscription.
+     *
+     * @return Observable of the number of bytes written
+     */
+    public static Observable<Integer> write(final Path path, final long position, final ByteBuffer data) {
+        return Observable.create(new ObservableOnSubscribe<Integer>() {
+            @Override
+            public void subscribe(final ObservableEmitter<Integer> emitter) throws IOException {
+                final AsynchronousFileChannel channel = open(emitter, path, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+                final ByteBuffer buffer = data.duplicate();
+                final int total = buffer.remaining();
+                channel.write(buffer, position, buffer, new CompletionHandler<Integer, ByteBuffer>() {
+                    @Override
+                    public void completed(Integer written, ByteBuffer buffer) {
+                        if (buffer.hasRemaining() && !emitter.isDisposed()) {
+                            channel.write(buffer, position + total - buffer.remaining(), buffer, this);
+                            return;
+                        }
+                        emitter.onNext(total);
+                        emitter.onComplete();
+                    }
+
+                    @Override
+                    public void failed(Throwable throwable, ByteBuffer buffer) {
+                        fail(emitter, throwable);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * {@link #read(Path, long, int)} as a {@link Flowable}, for {@link FlowableComprehensions}.
+     *
+     * @return Flowable of a buffer ready to be read
+     */
+    public static Flowable<ByteBuffer> readFlowable(Path path, long position, int size) {
+        return read(path, position, size).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * {@link #write(Path, long, ByteBuffer)} as a {@link Flowable}, for {@link FlowableComprehensions}.
+     *
+     * @return Flowable of the number of bytes written
+     */
+    public static Flowable<Integer> writeFlowable(Path path, long position, ByteBuffer data) {
+        return write(path, position, data).toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    private static AsynchronousFileChannel open(ObservableEmitter<?> emitter, Path path, OpenOption... options) throws IOException {
+        final AsynchronousFileChannel channel = AsynchronousFileChannel.open(path, options);
+        emitter.setCancellable(new Cancellable() {
+            @Override
+            public void cancel() throws IOException {
+                channel.close();
+            }
+        });
+        return channel;
+    }
+
+    private static void fail(ObservableEmitter<?> emitter, Throwable throwable) {
+        if (!emitter.isDisposed()) {
+            emitter.onError(throwable);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+import io.reactivex.functions.Function9;
+
+/**
+ * Adapters that turn plain blocking functions into comprehension stages.
+ * <p>
+ * Each adapted stage calls the blocking function inside {@link Observable#fromCallable(Callable)} subscribed on the given {@link Scheduler}, instead of wrapping every call site by hand.
+ * Pass a {@link Scheduler} backed by cheap threads to keep I/O-heavy comprehensions from growing {@link io.reactivex.schedulers.Schedulers#io()} to thousands of platform threads;
+ * on Java 21 and later that is {@code Schedulers.from(Executors.newVirtualThreadPerTaskExecutor())}.
+ *
+ * @author pakoito
+ */
+public final class BlockingStages {
+    private BlockingStages() {
+        // No instances
+    }
+
+    /**
+     * Adapts a blocking {@link Function} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, R> Function<A, Observable<R>> stage(final Scheduler scheduler, final Function<A, R> function) {
+        return new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link BiFunction} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, R> BiFunction<A, B, Observable<R>> stage(final Scheduler scheduler, final BiFunction<A, B, R> function) {
+        return new BiFunction<A, B, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function3} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, R> Function3<A, B, C, Observable<R>> stage(final Scheduler scheduler, final Function3<A, B, C, R> function) {
+        return new Function3<A, B, C, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function4} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, R> Function4<A, B, C, D, Observable<R>> stage(final Scheduler scheduler, final Function4<A, B, C, D, R> function) {
+        return new Function4<A, B, C, D, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c, d);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function5} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, R> Function5<A, B, C, D, E, Observable<R>> stage(final Scheduler scheduler, final Function5<A, B, C, D, E, R> function) {
+        return new Function5<A, B, C, D, E, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c, d, e);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function6} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, R> Function6<A, B, C, D, E, F, Observable<R>> stage(final Scheduler scheduler, final Function6<A, B, C, D, E, F, R> function) {
+        return new Function6<A, B, C, D, E, F, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c, d, e, f);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function7} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, G, R> Function7<A, B, C, D, E, F, G, Observable<R>> stage(final Scheduler scheduler, final Function7<A, B, C, D, E, F, G, R> function) {
+        return new Function7<A, B, C, D, E, F, G, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f, final G g) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c, d, e, f, g);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function8} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, G, H, R> Function8<A, B, C, D, E, F, G, H, Observable<R>> stage(final Scheduler scheduler, final Function8<A, B, C, D, E, F, G, H, R> function) {
+        return new Function8<A, B, C, D, E, F, G, H, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c, d, e, f, g, h);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+
+    /**
+     * Adapts a blocking {@link Function9} into a stage running on {@code scheduler}.
+     *
+     * @return stage function
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Function9<A, B, C, D, E, F, G, H, I, Observable<R>> stage(final Scheduler scheduler, final Function9<A, B, C, D, E, F, G, H, I, R> function) {
+        return new Function9<A, B, C, D, E, F, G, H, I, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h, final I i) {
+                return Observable.fromCallable(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return function.apply(a, b, c, d, e, f, g, h, i);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+}
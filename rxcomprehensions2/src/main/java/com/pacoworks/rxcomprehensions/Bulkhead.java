@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
+
+/**
+ * Caps the number of concurrent subscriptions to every inner {@link Observable} isolated by the same instance.
+ * <p>
+ * Unlike the {@code maxConcurrency} parameter of {@link Observable#flatMap(io.reactivex.functions.Function, int)}, which limits a single chain,
+ * one {@link Bulkhead} is shared by all comprehensions whose stages compose {@link #isolate()}:
+ * <pre>{@code
+ * Bulkhead inventory = Bulkhead.create(16, 256);
+ *
+ * RxComprehensions.doFlatMap(
+ *     () -> orders(),
+ *     order -> inventoryService.reserve(order).compose(inventory.<Reservation>isolate()),
+ *     (order, reservation) -> confirm(order, reservation)
+ * );
+ * }</pre>
+ *
+ * @author pakoito
+ */
+public final class Bulkhead {
+    private final Permits permits;
+
+    private Bulkhead(int maxConcurrency, int maxQueued) {
+        permits = new Permits(maxConcurrency, maxQueued);
+    }
+
+    /**
+     * Creates a {@link Bulkhead} queueing every subscription over {@code maxConcurrency}.
+     *
+     * @return new Bulkhead
+     */
+    public static Bulkhead create(int maxConcurrency) {
+        return new Bulkhead(maxConcurrency, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@link Bulkhead} queueing up to {@code maxQueued} subscriptions over {@code maxConcurrency},
+     * after which subscriptions fail with {@link RejectedExecutionException}.
+     *
+     * @return new Bulkhead
+     */
+    public static Bulkhead create(int maxConcurrency, int maxQueued) {
+        return new Bulkhead(maxConcurrency, maxQueued);
+    }
+
+    /**
+     * Transformer subscribing to its upstream only when this {@link Bulkhead} has capacity for it.
+     *
+     * @return isolating transformer
+     */
+    public <T> ObservableTransformer<T, T> isolate() {
+        return permits.admit();
+    }
+
+    /**
+     * Transformer subscribing to its upstream only when this {@link Bulkhead} has capacity for it.
+     * While waiting for capacity, subscriptions with a higher {@code priority} are started first,
+     * and subscriptions with the same {@code priority} in arrival order.
+     * {@link #isolate()} uses priority 0.
+     *
+     * @return isolating transformer
+     */
+    public <T> ObservableTransformer<T, T> isolate(int priority) {
+        return permits.admit(priority);
+    }
+
+    /**
+     * @return number of subscriptions currently running
+     */
+    public int running() {
+        return permits.inFlight();
+    }
+
+    /**
+     * @return number of subscriptions waiting for capacity
+     */
+    public int queued() {
+        return permits.queued();
+    }
+
+    private static final class Permits extends Admission {
+        private final int maxConcurrency;
+
+        Permits(int maxConcurrency, int maxQueued) {
+            super(maxQueued);
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency <= 0: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        int limit() {
+            return maxConcurrency;
+        }
+    }
+}
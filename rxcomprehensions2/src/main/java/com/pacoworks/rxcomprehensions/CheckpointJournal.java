@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * Append-only file recording the keys of the elements that completed every stage of a resumable comprehension,
+ * such as {@link RxComprehensions#doConcatMapResumable(java.util.concurrent.Callable, CheckpointJournal, Function, Function)}.
+ * <p>
+ * Each key is written with its length and checksum and forced to disk before the element is considered complete.
+ * On {@link #open(File, Serializer)} a record that was only partially written is discarded.
+ *
+ * @author pakoito
+ */
+public final class CheckpointJournal<K> implements Closeable {
+    private final Serializer<K> keys;
+
+    private final RandomAccessFile file;
+
+    private final FileChannel channel;
+
+    private final Set<K> completed;
+
+    private CheckpointJournal(Serializer<K> keys, RandomAccessFile file, Set<K> completed) {
+        this.keys = keys;
+        this.file = file;
+        this.channel = file.getChannel();
+        this.completed = completed;
+    }
+
+    /**
+     * Opens the journal in {@code file}, creating it if missing, and reads the keys completed by previous runs.
+     *
+     * @return open CheckpointJournal
+     */
+    public static <K> CheckpointJournal<K> open(File file, Serializer<K> keys) throws IOException {
+        final Set<K> completed = new HashSet<K>();
+        final long valid = file.exists() ? read(file, keys, completed) : 0;
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(valid);
+        randomAccessFile.seek(valid);
+        return new CheckpointJournal<K>(keys, randomAccessFile, completed);
+    }
+
+    /**
+     * @return whether {@code key} has been recorded as completed
+     */
+    public synchronized boolean isCompleted(K key) {
+        return completed.contains(key);
+    }
+
+    /**
+     * Records {@code key} as completed, returning once it is on disk.
+     */
+    public synchronized void complete(K key) throws IOException {
+        if (completed.contains(key)) {
+            return;
+        }
+        final byte[] bytes = keys.serialize(key);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        final ByteBuffer record = ByteBuffer.allocate(4 + bytes.length + 8);
+        record.putInt(bytes.length).put(bytes).putLong(crc.getValue());
+        record.flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        channel.force(false);
+        completed.add(key);
+    }
+
+    /**
+     * @return number of keys recorded as completed
+     */
+    public synchronized int size() {
+        return completed.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        file.close();
+    }
+
+    <A> Predicate<A> pending(final Function<A, K> keySelector) {
+        return new Predicate<A>() {
+            @Override
+            public boolean test(A a) throws Exception {
+                return !isCompleted(keySelector.apply(a));
+            }
+        };
+    }
+
+    <T> Observable<T> checkpoint(final K key, Observable<T> stages) {
+        return stages.doOnComplete(new Action() {
+            @Override
+            public void run() throws Exception {
+                complete(key);
+            }
+        });
+    }
+
+    /**
+     * @return length of the valid records
+     */
+    private static <K> long read(File file, Serializer<K> keys, Set<K> completed) throws IOException {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        long valid = 0;
+        try {
+            while (true) {
+                final int length = input.readInt();
+                if (length < 0 || valid + 4 + length + 8 > file.length()) {
+                    break;
+                }
+                final byte[] bytes = new byte[length];
+                input.readFully(bytes);
+                final CRC32 crc = new CRC32();
+                crc.update(bytes);
+                if (input.readLong() != crc.getValue()) {
+                    break;
+                }
+                completed.add(keys.deserialize(bytes));
+                valid += 4 + length + 8;
+            }
+        } catch (EOFException ignored) {
+            // Partial record at the end
+        } finally {
+            input.close();
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.Notification;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+
+/**
+ * Fails a stage fast, without subscribing to its inner {@link Observable}, while the stage is failing or slow.
+ * <p>
+ * The circuit starts closed and records the outcome of the last {@code window} subscriptions. Once the rate of failed
+ * or of slow subscriptions reaches its threshold the circuit opens, and every subscription fails with {@link CircuitOpenException}.
+ * After the open duration the circuit is half-open: a few probe subscriptions go through, closing the circuit if they all
+ * succeed in time, or opening it again at the first failed or slow one, or at one still running after the probe timeout.
+ * <pre>{@code
+ * CircuitBreaker payments = CircuitBreaker.builder(Schedulers.computation())
+ *     .failureRate(0.5)
+ *     .slowCallRate(0.8, 2, TimeUnit.SECONDS)
+ *     .openFor(30, TimeUnit.SECONDS)
+ *     .build();
+ *
+ * RxComprehensions.doFlatMap(
+ *     () -> orders(),
+ *     order -> getCart(order),
+ *     (order, cart) -> pay(order, cart).compose(payments.protect())
+ * );
+ * }</pre>
+ * Time is read from the {@link Scheduler}.
+ *
+ * @author pakoito
+ */
+public final class CircuitBreaker {
+    /**
+     * States of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Scheduler scheduler;
+
+    private final double failureRateThreshold;
+
+    private final double slowCallRateThreshold;
+
+    private final long slowCallNanos;
+
+    private final long openNanos;
+
+    private final int halfOpenCalls;
+
+    private final long probeTimeoutNanos;
+
+    private final boolean[] failed;
+
+    private final boolean[] slow;
+
+    private State state = State.CLOSED;
+
+    private int generation;
+
+    private long recorded;
+
+    private int failures;
+
+    private int slowCalls;
+
+    private long openedAt;
+
+    private final List<Probe> probesInFlight = new ArrayList<Probe>();
+
+    private int probes;
+
+    private int succeededProbes;
+
+    private CircuitBreaker(Builder builder) {
+        this.scheduler = builder.scheduler;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallNanos = builder.slowCallNanos;
+        this.openNanos = builder.openNanos;
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.probeTimeoutNanos = builder.probeTimeoutNanos;
+        this.failed = new boolean[builder.window];
+        this.slow = new boolean[builder.window];
+    }
+
+    public static Builder builder(Scheduler scheduler) {
+        return new Builder(scheduler);
+    }
+
+    /**
+     * Transformer failing with {@link CircuitOpenException} without subscribing to its upstream while the circuit is open.
+     *
+     * @return protecting transformer
+     */
+    public <T> ObservableTransformer<T, T> protect() {
+        return new ObservableTransformer<T, T>() {
+            @Override
+            public ObservableSource<T> apply(final Observable<T> upstream) {
+                return Observable.defer(new Callable<ObservableSource<T>>() {
+                    @Override
+                    public ObservableSource<T> call() {
+                        final int permit = acquire();
+                        if (permit < 0) {
+                            return Observable.error(new CircuitOpenException());
+                        }
+                        return record(upstream, permit);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * @return current state, moving from open to half-open when the open duration has passed,
+     * and from half-open back to open when a probe is still running after the probe timeout
+     */
+    public synchronized State state() {
+        final long now = scheduler.now(TimeUnit.NANOSECONDS);
+        if (state == State.HALF_OPEN && hasStuckProbe(now)) {
+            open();
+        }
+        if (state == State.OPEN && now - openedAt >= openNanos) {
+            halfOpen();
+        }
+        return state;
+    }
+
+    private <T> Observable<T> record(Observable<T> upstream, final int permit) {
+        final long start = scheduler.now(TimeUnit.NANOSECONDS);
+        final Probe probe = track(permit, start);
+        final AtomicBoolean finished = new AtomicBoolean();
+        return upstream
+                .doOnEach(new Consumer<Notification<T>>() {
+                    @Override
+                    public void accept(Notification<T> notification) {
+                        if (!notification.isOnNext() && finished.compareAndSet(false, true)) {
+                            onResult(permit, probe, notification.isOnError(), scheduler.now(TimeUnit.NANOSECONDS) - start > slowCallNanos);
+                        }
+                    }
+                })
+                .doOnDispose(new Action() {
+                    @Override
+                    public void run() {
+                        if (finished.compareAndSet(false, true)) {
+                            onDisposed(permit, probe);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * @return generation the subscription belongs to, or -1 to fail fast
+     */
+    private synchronized int acquire() {
+        switch (state()) {
+            case CLOSED:
+                return generation;
+            case HALF_OPEN:
+                if (probes < halfOpenCalls) {
+                    probes++;
+                    return generation;
+                }
+                return -1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * @return probe tracking a subscription admitted while half-open, or null
+     */
+    private synchronized Probe track(int permit, long start) {
+        if (permit != generation || state != State.HALF_OPEN) {
+            return null;
+        }
+        final Probe probe = new Probe(start);
+        probesInFlight.add(probe);
+        return probe;
+    }
+
+    private boolean hasStuckProbe(long now) {
+        for (Probe probe : probesInFlight) {
+            if (now - probe.startedAt >= probeTimeoutNanos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void onResult(int permit, Probe probe, boolean isFailure, boolean isSlow) {
+        probesInFlight.remove(probe);
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (isFailure || isSlow) {
+                open();
+            } else if (++succeededProbes == halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        final int index = (int) (recorded % failed.length);
+        if (recorded >= failed.length) {
+            failures -= failed[index] ? 1 : 0;
+            slowCalls -= slow[index] ? 1 : 0;
+        }
+        failed[index] = isFailure;
+        slow[index] = isSlow;
+        failures += isFailure ? 1 : 0;
+        slowCalls += isSlow ? 1 : 0;
+        recorded++;
+        if (recorded >= failed.length
+                && (failures >= failureRateThreshold * failed.length || slowCalls >= slowCallRateThreshold * failed.length)) {
+            open();
+        }
+    }
+
+    private synchronized void onDisposed(int permit, Probe probe) {
+        probesInFlight.remove(probe);
+        if (permit == generation && state == State.HALF_OPEN) {
+            probes--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        generation++;
+        probesInFlight.clear();
+        openedAt = scheduler.now(TimeUnit.NANOSECONDS);
+    }
+
+    private void halfOpen() {
+        state = State.HALF_OPEN;
+        generation++;
+        probesInFlight.clear();
+        probes = 0;
+        succeededProbes = 0;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        generation++;
+        probesInFlight.clear();
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    private static final class Probe {
+        final long startedAt;
+
+        Probe(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * Builder for a {@link CircuitBreaker} with a window of 100 subscriptions, opening at a 50% failure rate for 60 seconds,
+     * and closing after 10 successful probes, reopening if a probe runs for longer than 60 seconds. Slow subscriptions don't open the circuit unless {@link #slowCallRate(double, long, TimeUnit)} is set.
+     */
+    public static final class Builder {
+        private final Scheduler scheduler;
+
+        private double failureRateThreshold = 0.5;
+
+        private double slowCallRateThreshold = 1;
+
+        private long slowCallNanos = Long.MAX_VALUE;
+
+        private int window = 100;
+
+        private long openNanos = TimeUnit.SECONDS.toNanos(60);
+
+        private int halfOpenCalls = 10;
+
+        private long probeTimeoutNanos = TimeUnit.SECONDS.toNanos(60);
+
+        Builder(Scheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * Opens the circuit when at least {@code threshold} of the subscriptions in the window failed.
+         */
+        public Builder failureRate(double threshold) {
+            this.failureRateThreshold = rate(threshold);
+            return this;
+        }
+
+        /**
+         * Opens the circuit when at least {@code threshold} of the subscriptions in the window took longer than {@code duration}.
+         */
+        public Builder slowCallRate(double threshold, long duration, TimeUnit unit) {
+            this.slowCallRateThreshold = rate(threshold);
+            this.slowCallNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Number of subscriptions the rates are computed over. No rate is computed until the window is full.
+         */
+        public Builder window(int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("size <= 0: " + size);
+            }
+            this.window = size;
+            return this;
+        }
+
+        /**
+         * Time the circuit stays open before letting probes through.
+         */
+        public Builder openFor(long duration, TimeUnit unit) {
+            this.openNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Number of probe subscriptions allowed while half-open, all of which must succeed to close the circuit.
+         */
+        public Builder halfOpenCalls(int calls) {
+            if (calls <= 0) {
+                throw new IllegalArgumentException("calls <= 0: " + calls);
+            }
+            this.halfOpenCalls = calls;
+            return this;
+        }
+
+        /**
+         * Time a probe may run while half-open. If one hasn't terminated or been disposed by then, for instance because
+         * it never terminates, the circuit opens again and the results of the probes still running are ignored.
+         * Time between probes doesn't count, so a stage called rarely still closes the circuit once enough probes succeed.
+         */
+        public Builder probeTimeout(long duration, TimeUnit unit) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("duration <= 0: " + duration);
+            }
+            this.probeTimeoutNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static double rate(double threshold) {
+            if (threshold <= 0 || threshold > 1) {
+                throw new IllegalArgumentException("threshold not in (0, 1]: " + threshold);
+            }
+            return threshold;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+/**
+ * Error raised by {@link CircuitBreaker#protect()} instead of subscribing to the stage while the circuit is open.
+ * <p>
+ * No stack trace is captured, so failing fast stays cheap when every element hits an open circuit.
+ *
+ * @author pakoito
+ */
+public final class CircuitOpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    CircuitOpenException() {
+        super("Circuit open");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of the shape of a comprehension: its name and the name of each stage, by position.
+ * <p>
+ * Built once at assembly time, so diagnostics can reference stages without building labels per element.
+ * Passing it to a comprehension binds it to the operator chaining the stages, and describes each stage:
+ * <pre>{@code
+ * ComprehensionDescriptor friends = ComprehensionDescriptor.builder("friends")
+ *     .stage("user")
+ *     .stage("friendList")
+ *     .build();
+ *
+ * RxComprehensions.doFlatMap(friends,
+ *     () -> profileClicks(),
+ *     position -> getUserFromProfile(position),
+ *     (position, user) -> requestFriendListForUser(position, user.id)
+ * );
+ * }</pre>
+ *
+ * @author pakoito
+ */
+public final class ComprehensionDescriptor {
+    /**
+     * Operator chaining the stages of a comprehension.
+     */
+    public enum Operator {
+        FLAT_MAP("flatMap"), CONCAT_MAP("concatMap"), SWITCH_MAP("switchMap"), COMPOSE("compose");
+
+        private final String method;
+
+        Operator(String method) {
+            this.method = method;
+        }
+
+        @Override
+        public String toString() {
+            return method;
+        }
+    }
+
+    private final String name;
+
+    private final Operator operator;
+
+    private final List<StageDescriptor> stages;
+
+    private ComprehensionDescriptor(String name, Operator operator, List<String> names) {
+        this.name = name;
+        this.operator = operator;
+        final List<StageDescriptor> stages = new ArrayList<StageDescriptor>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            stages.add(new StageDescriptor(this, names.get(i), i + 1));
+        }
+        this.stages = Collections.unmodifiableList(stages);
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * @return name of the comprehension
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return operator chaining the stages, or null if the descriptor hasn't been passed to a comprehension
+     */
+    public Operator operator() {
+        return operator;
+    }
+
+    /**
+     * @param index 1-based position of the stage, matching its number of parameters
+     * @return descriptor of the stage
+     */
+    public StageDescriptor stage(int index) {
+        return stages.get(index - 1);
+    }
+
+    /**
+     * @return descriptors of every stage, in order
+     */
+    public List<StageDescriptor> stages() {
+        return stages;
+    }
+
+    /**
+     * @return copy of this descriptor recording the operator of the comprehension it's passed to
+     * @throws IllegalArgumentException if the comprehension doesn't have one stage per descriptor
+     */
+    ComprehensionDescriptor bind(Operator operator, int stageCount) {
+        if (stageCount != stages.size()) {
+            throw new IllegalArgumentException(name + " describes " + stages.size() + " stages, comprehension has " + stageCount);
+        }
+        if (operator == this.operator) {
+            return this;
+        }
+        final List<String> names = new ArrayList<String>(stages.size());
+        for (StageDescriptor stage : stages) {
+            names.add(stage.name());
+        }
+        return new ComprehensionDescriptor(name, operator, names);
+    }
+
+    @Override
+    public String toString() {
+        return (operator == null ? name : name + "(" + operator + ")") + stages;
+    }
+
+    /**
+     * Builder adding one {@link StageDescriptor} per stage, in order.
+     */
+    public static final class Builder {
+        private final String name;
+
+        private final List<String> names = new ArrayList<String>();
+
+        Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds the next stage.
+         */
+        public Builder stage(String stageName) {
+            names.add(stageName);
+            return this;
+        }
+
+        public ComprehensionDescriptor build() {
+            return new ComprehensionDescriptor(name, null, names);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+import io.reactivex.functions.Function9;
+
+/**
+ * Comprehension scheduled as a graph of stages, where each stage declares which earlier values it reads.
+ * <p>
+ * Every stage is subscribed as soon as the values it depends on are available, so independent stages run at the same
+ * time and the comprehension takes as many round trips as the depth of the graph rather than its number of stages:
+ * <pre>{@code
+ * ComprehensionGraph.Builder<Order> checkout = ComprehensionGraph.builder();
+ * Node<Order> order = checkout.root();
+ * Node<Cart> cart = checkout.stage(order, o -> getCart(o));
+ * Node<Stock> stock = checkout.stage(order, o -> checkStock(o));
+ * Node<Price> price = checkout.stage(cart, stock, (c, s) -> price(c, s));
+ * ComprehensionGraph<Order, Receipt> graph = checkout.build(checkout.stage(order, price, (o, p) -> pay(o, p)));
+ *
+ * Observable<Receipt> receipts = RxComprehensions.doCompose(() -> orders(), graph);
+ * }</pre>
+ * A stage read by more than one other stage is subscribed once per element and its values are shared, until the result
+ * for that element terminates or is disposed. Values of the dependencies of a stage are paired with
+ * {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, so stages are expected to emit a single value.
+ * Stages not reachable from the result are never subscribed.
+ *
+ * @author pakoito
+ */
+public final class ComprehensionGraph<A, R> implements ObservableTransformer<A, R> {
+    private final List<Node<?>> nodes;
+
+    private final int[] consumers;
+
+    private final int result;
+
+    private ComprehensionGraph(List<Node<?>> nodes, int[] consumers, int result) {
+        this.nodes = nodes;
+        this.consumers = consumers;
+        this.result = result;
+    }
+
+    public static <A> Builder<A> builder() {
+        return new Builder<A>();
+    }
+
+    /**
+     * @return number of stages evaluated per element, excluding the root
+     */
+    public int stages() {
+        int count = 0;
+        for (int i = 1; i < consumers.length; i++) {
+            if (consumers[i] > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public ObservableSource<R> apply(Observable<A> upstream) {
+        return upstream.flatMap(new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(A a) {
+                return evaluate(a);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Observable<R> evaluate(final A a) {
+        final CompositeDisposable connections = new CompositeDisposable();
+        final Observable<?>[] values = new Observable<?>[nodes.size()];
+        values[0] = Observable.just(a);
+        for (int i = 1; i < values.length; i++) {
+            if (consumers[i] == 0) {
+                continue;
+            }
+            final Observable<?> value = nodes.get(i).evaluate(values);
+            values[i] = consumers[i] == 1 ? value : value.replay().autoConnect(consumers[i], new Consumer<Disposable>() {
+                @Override
+                public void accept(Disposable disposable) {
+                    connections.add(disposable);
+                }
+            });
+        }
+        return ((Observable<R>) values[result]).doFinally(new Action() {
+            @Override
+            public void run() {
+                connections.dispose();
+            }
+        });
+    }
+
+    /**
+     * Typed handle to the values of a stage, used to declare the dependencies of later stages.
+     */
+    public abstract static class Node<T> {
+        final Builder<?> owner;
+
+        final int index;
+
+        final int[] dependencies;
+
+        Node(Builder<?> owner, int index, int... dependencies) {
+            this.owner = owner;
+            this.index = index;
+            this.dependencies = dependencies;
+        }
+
+        abstract Observable<T> evaluate(Observable<?>[] values);
+
+        @SuppressWarnings("unchecked")
+        Observable<T> from(Observable<?>[] values) {
+            return (Observable<T>) values[index];
+        }
+    }
+
+    /**
+     * Builder adding stages after the root value, each one reading the values of the nodes passed before its function.
+     */
+    public static final class Builder<A> {
+        private final List<Node<?>> nodes = new ArrayList<Node<?>>();
+
+        private final Node<A> root;
+
+        Builder() {
+            root = new Node<A>(this, 0) {
+                @Override
+                Observable<A> evaluate(Observable<?>[] values) {
+                    return from(values);
+                }
+            };
+            nodes.add(root);
+        }
+
+        /**
+         * @return node for each element of the upstream
+         */
+        public Node<A> root() {
+            return root;
+        }
+
+        /**
+         * Adds a stage reading the values of one node.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, R> Node<R> stage(final Node<B> b, final Function<B, Observable<R>> function) {
+            return add(new Node<R>(this, index(b), b.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return b.from(values).flatMap(function);
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 2 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, R> Node<R> stage(final Node<B> b, final Node<C> c, final BiFunction<B, C, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c), b.index, c.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 3 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Function3<B, C, D, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d), b.index, c.index, d.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 4 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, E, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Node<E> e, final Function4<B, C, D, E, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d, e), b.index, c.index, d.index, e.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), e.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 5 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, E, F, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Node<E> e, final Node<F> f, final Function5<B, C, D, E, F, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d, e, f), b.index, c.index, d.index, e.index, f.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), e.from(values), f.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 6 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, E, F, G, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Node<E> e, final Node<F> f, final Node<G> g, final Function6<B, C, D, E, F, G, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d, e, f, g), b.index, c.index, d.index, e.index, f.index, g.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), e.from(values), f.from(values), g.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 7 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, E, F, G, H, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Node<E> e, final Node<F> f, final Node<G> g, final Node<H> h, final Function7<B, C, D, E, F, G, H, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d, e, f, g, h), b.index, c.index, d.index, e.index, f.index, g.index, h.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), e.from(values), f.from(values), g.from(values), h.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 8 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, E, F, G, H, I, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Node<E> e, final Node<F> f, final Node<G> g, final Node<H> h, final Node<I> i, final Function8<B, C, D, E, F, G, H, I, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d, e, f, g, h, i), b.index, c.index, d.index, e.index, f.index, g.index, h.index, i.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), e.from(values), f.from(values), g.from(values), h.from(values), i.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        /**
+         * Adds a stage reading the values of 9 nodes.
+         *
+         * @return node for the values of the stage
+         */
+        public <B, C, D, E, F, G, H, I, J, R> Node<R> stage(final Node<B> b, final Node<C> c, final Node<D> d, final Node<E> e, final Node<F> f, final Node<G> g, final Node<H> h, final Node<I> i, final Node<J> j, final Function9<B, C, D, E, F, G, H, I, J, Observable<R>> function) {
+            return add(new Node<R>(this, index(b, c, d, e, f, g, h, i, j), b.index, c.index, d.index, e.index, f.index, g.index, h.index, i.index, j.index) {
+                @Override
+                Observable<R> evaluate(Observable<?>[] values) {
+                    return Observable.zip(b.from(values), c.from(values), d.from(values), e.from(values), f.from(values), g.from(values), h.from(values), i.from(values), j.from(values), function).flatMap(RxComprehensions.<R>flatten());
+                }
+            });
+        }
+
+        public <R> ComprehensionGraph<A, R> build(Node<R> result) {
+            check(result);
+            final int[] consumers = new int[nodes.size()];
+            consumers[result.index] = 1;
+            for (int i = nodes.size() - 1; i > 0; i--) {
+                if (consumers[i] > 0) {
+                    for (int dependency : nodes.get(i).dependencies) {
+                        consumers[dependency]++;
+                    }
+                }
+            }
+            return new ComprehensionGraph<A, R>(Collections.unmodifiableList(new ArrayList<Node<?>>(nodes)), consumers, result.index);
+        }
+
+        private int index(Node<?>... dependencies) {
+            for (Node<?> dependency : dependencies) {
+                check(dependency);
+            }
+            return nodes.size();
+        }
+
+        private <T> Node<T> add(Node<T> node) {
+            nodes.add(node);
+            return node;
+        }
+
+        private void check(Node<?> node) {
+            if (node.owner != this) {
+                throw new IllegalArgumentException("Node belongs to a different builder");
+            }
+        }
+    }
+}
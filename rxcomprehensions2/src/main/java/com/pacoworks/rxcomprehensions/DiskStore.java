@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent key-value store kept in memory-mapped segment files inside a directory, surviving restarts.
+ * <p>
+ * Values are appended to the newest segment, each with the time it was written. When the segments exceed {@code maxBytes}
+ * the oldest one is deleted with every value in it. The index is rebuilt from the segments on {@link #open(File, Serializer, Serializer, long, int)},
+ * discarding a record that was only partially written and everything after it. Keys must serialize to at least one byte. Used as the second tier of a {@link StaleWhileRevalidateCache}:
+ * <pre>{@code
+ * DiskStore<String, Prediction> disk = DiskStore.open(new File("cache/predictions"), keys, predictions, 1L << 30, 64 << 20);
+ * StaleWhileRevalidateCache<String, Prediction> predictions = StaleWhileRevalidateCache.create(1, 7, TimeUnit.DAYS, 10000, Schedulers.io(), disk);
+ * }</pre>
+ *
+ * @author pakoito
+ */
+public final class DiskStore<K, V> implements Closeable {
+    private static final String PREFIX = "segment-";
+
+    private static final String SUFFIX = ".dat";
+
+    /** Key length, value length, and timestamp. The key length is written last and marks the record as complete. */
+    private static final int HEADER_BYTES = 4 + 4 + 8;
+
+    /** Value length of a record removing its key. */
+    private static final int TOMBSTONE = -1;
+
+    private final File directory;
+
+    private final Serializer<K> keys;
+
+    private final Serializer<V> values;
+
+    private final long maxBytes;
+
+    private final int segmentBytes;
+
+    private final Deque<Segment> segments = new ArrayDeque<Segment>();
+
+    private final Map<K, Location> index = new HashMap<K, Location>();
+
+    private long bytes;
+
+    private long nextId;
+
+    private boolean closed;
+
+    private DiskStore(File directory, Serializer<K> keys, Serializer<V> values, long maxBytes, int segmentBytes) {
+        this.directory = directory;
+        this.keys = keys;
+        this.values = values;
+        this.maxBytes = maxBytes;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Opens the store in {@code directory}, creating it if missing, with segments of {@code segmentBytes} up to a total of {@code maxBytes}.
+     *
+     * @return open DiskStore
+     */
+    public static <K, V> DiskStore<K, V> open(File directory, Serializer<K> keys, Serializer<V> values, long maxBytes, int segmentBytes) throws IOException {
+        if (segmentBytes <= HEADER_BYTES || maxBytes < segmentBytes) {
+            throw new IllegalArgumentException("Expected " + HEADER_BYTES + " < segmentBytes <= maxBytes: " + segmentBytes + ", " + maxBytes);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        final DiskStore<K, V> store = new DiskStore<K, V>(directory, keys, values, maxBytes, segmentBytes);
+        store.load();
+        return store;
+    }
+
+    /**
+     * @return value stored for {@code key}, or null
+     */
+    public V get(K key) throws IOException {
+        final StaleWhileRevalidateCache.Cached<V> cached = read(key);
+        return cached == null ? null : cached.value;
+    }
+
+    /**
+     * Stores {@code value} for {@code key}, written at the current time.
+     */
+    public void put(K key, V value) throws IOException {
+        write(key, value, System.currentTimeMillis());
+    }
+
+    /**
+     * Removes the value stored for {@code key}, if any.
+     */
+    public synchronized void remove(K key) throws IOException {
+        checkOpen();
+        final byte[] keyBytes = serializeKey(key);
+        if (index.remove(key) != null) {
+            append(keyBytes, null, 0);
+        }
+    }
+
+    /**
+     * @return number of keys stored
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * @return bytes taken by the segments on disk
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+            segments.clear();
+            index.clear();
+        }
+    }
+
+    StaleWhileRevalidateCache.Cached<V> read(K key) throws IOException {
+        final byte[] value;
+        final long timestamp;
+        synchronized (this) {
+            checkOpen();
+            final Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            final ByteBuffer buffer = location.segment.buffer.duplicate();
+            buffer.position(location.offset + HEADER_BYTES + location.keyLength);
+            value = new byte[location.valueLength];
+            buffer.get(value);
+            timestamp = location.timestamp;
+        }
+        return new StaleWhileRevalidateCache.Cached<V>(values.deserialize(value), timestamp);
+    }
+
+    synchronized void write(K key, V value, long timestamp) throws IOException {
+        checkOpen();
+        final byte[] keyBytes = serializeKey(key);
+        final byte[] valueBytes = values.serialize(value);
+        index.put(key, append(keyBytes, valueBytes, timestamp));
+    }
+
+    /**
+     * A key length of 0 marks the end of the records in a segment, so empty keys can't be stored.
+     */
+    private byte[] serializeKey(K key) throws IOException {
+        final byte[] keyBytes = keys.serialize(key);
+        if (keyBytes.length == 0) {
+            throw new IllegalArgumentException("Key serializes to 0 bytes: " + key);
+        }
+        return keyBytes;
+    }
+
+    private Location append(byte[] keyBytes, byte[] valueBytes, long timestamp) throws IOException {
+        final int valueLength = valueBytes == null ? TOMBSTONE : valueBytes.length;
+        final int recordBytes = HEADER_BYTES + keyBytes.length + Math.max(0, valueLength);
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.position + recordBytes > segment.buffer.capacity()) {
+            segment = create(Math.max(segmentBytes, recordBytes));
+        }
+        final int offset = segment.position;
+        final MappedByteBuffer buffer = segment.buffer;
+        buffer.position(offset + HEADER_BYTES);
+        buffer.put(keyBytes);
+        if (valueBytes != null) {
+            buffer.put(valueBytes);
+        }
+        buffer.putInt(offset + 4, valueLength);
+        buffer.putLong(offset + 8, timestamp);
+        buffer.putInt(offset, keyBytes.length);
+        segment.position = offset + recordBytes;
+        return new Location(segment, offset, keyBytes.length, valueLength, timestamp);
+    }
+
+    private void load() throws IOException {
+        final File[] files = directory.listFiles();
+        final List<Long> ids = new ArrayList<Long>();
+        if (files != null) {
+            for (File file : files) {
+                final String name = file.getName();
+                if (name.startsWith(PREFIX) && name.endsWith(SUFFIX)) {
+                    try {
+                        ids.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+                    } catch (NumberFormatException ignored) {
+                        // Not a segment
+                    }
+                }
+            }
+        }
+        Collections.sort(ids);
+        for (long id : ids) {
+            final File file = file(id);
+            final Segment segment = new Segment(file, map(file, file.length()));
+            segments.addLast(segment);
+            bytes += segment.buffer.capacity();
+            scan(segment);
+            nextId = id + 1;
+        }
+        evict();
+    }
+
+    private void scan(Segment segment) {
+        final ByteBuffer buffer = segment.buffer.duplicate();
+        int offset = 0;
+        while (offset + HEADER_BYTES <= buffer.capacity()) {
+            final int keyLength = buffer.getInt(offset);
+            final int valueLength = buffer.getInt(offset + 4);
+            final int recordBytes = HEADER_BYTES + keyLength + Math.max(0, valueLength);
+            if (keyLength <= 0 || valueLength < TOMBSTONE || offset + recordBytes > buffer.capacity()) {
+                break;
+            }
+            final byte[] key = new byte[keyLength];
+            buffer.position(offset + HEADER_BYTES);
+            buffer.get(key);
+            try {
+                if (valueLength == TOMBSTONE) {
+                    index.remove(keys.deserialize(key));
+                } else {
+                    index.put(keys.deserialize(key), new Location(segment, offset, keyLength, valueLength, buffer.getLong(offset + 8)));
+                }
+            } catch (IOException e) {
+                break;
+            }
+            offset += recordBytes;
+        }
+        segment.position = offset;
+        // Bytes of a partially written record would be read as records once a shorter one is appended over them
+        for (int i = offset; i < buffer.capacity(); i++) {
+            if (buffer.get(i) != 0) {
+                for (int j = i; j < buffer.capacity(); j++) {
+                    buffer.put(j, (byte) 0);
+                }
+                segment.buffer.force();
+                break;
+            }
+        }
+    }
+
+    private Segment create(int capacity) throws IOException {
+        final long id = nextId++;
+        final File file = file(id);
+        final Segment segment = new Segment(file, map(file, capacity));
+        segments.addLast(segment);
+        bytes += capacity;
+        evict();
+        return segment;
+    }
+
+    private void evict() {
+        while (bytes > maxBytes && segments.size() > 1) {
+            final Segment oldest = segments.removeFirst();
+            bytes -= oldest.buffer.capacity();
+            final Iterator<Location> locations = index.values().iterator();
+            while (locations.hasNext()) {
+                if (locations.next().segment == oldest) {
+                    locations.remove();
+                }
+            }
+            oldest.file.delete();
+        }
+    }
+
+    private File file(long id) {
+        return new File(directory, PREFIX + String.format("%019d", id) + SUFFIX);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("DiskStore closed");
+        }
+    }
+
+    private static MappedByteBuffer map(File file, long capacity) throws IOException {
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private static final class Segment {
+        final File file;
+
+        final MappedByteBuffer buffer;
+
+        int position;
+
+        Segment(File file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class Location {
+        final Segment segment;
+
+        final int offset;
+
+        final int keyLength;
+
+        final int valueLength;
+
+        final long timestamp;
+
+        Location(Segment segment, int offset, int keyLength, int valueLength, long timestamp) {
+            this.segment = segment;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,3142 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+import io.reactivex.functions.Function9;
+
+/**
+ * Helper class to reduce boilerplate introduced by nested {@link Flowable#flatMap(Function)}, {@link Flowable#concatMap(Function)}, and {@link Flowable#switchMap(Function)} calls.
+ * <p>
+ * Sources and stages are any Reactive Streams {@link Publisher}, so values produced by other implementations are consumed with backpressure without going through an {@link io.reactivex.Observable}.
+ *
+ * @author pakoito
+ */
+public final class FlowableComprehensions {
+    private FlowableComprehensions() {
+        // No instances
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<R>> one) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return one.apply(a);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<R>> two) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b);
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<R>> three) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c);
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<R>> four) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .flatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d);
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<R>> five) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .flatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .flatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e);
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<R>> six) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .flatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .flatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .flatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f);
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<R>> seven) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .flatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .flatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .flatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .flatMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<R>> eight) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .flatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .flatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .flatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .flatMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                                    .flatMap(new Function<H, Publisher<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                            return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#flatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Flowable<R> doFlatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Publisher<R>> nine) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .flatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .flatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .flatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .flatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .flatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .flatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .flatMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                                    .flatMap(new Function<H, Publisher<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                            return Flowable.fromPublisher(eight.apply(a, b, c, d, e, f, g, h))
+                                                                                                                                                    .flatMap(new Function<I, Publisher<R>>() {
+                                                                                                                                                        @Override
+                                                                                                                                                        public Publisher<R> apply(final I i) throws Exception {
+                                                                                                                                                            return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                        }
+                                                                                                                                                    });
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<R>> one) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return one.apply(a);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<R>> two) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b);
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<R>> three) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c);
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<R>> four) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .concatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d);
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<R>> five) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .concatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .concatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e);
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<R>> six) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .concatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .concatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .concatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f);
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<R>> seven) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .concatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .concatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .concatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .concatMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<R>> eight) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .concatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .concatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .concatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .concatMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                                    .concatMap(new Function<H, Publisher<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                            return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#concatMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Flowable<R> doConcatMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Publisher<R>> nine) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .concatMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .concatMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .concatMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .concatMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .concatMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .concatMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .concatMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                                    .concatMap(new Function<H, Publisher<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                            return Flowable.fromPublisher(eight.apply(a, b, c, d, e, f, g, h))
+                                                                                                                                                    .concatMap(new Function<I, Publisher<R>>() {
+                                                                                                                                                        @Override
+                                                                                                                                                        public Publisher<R> apply(final I i) throws Exception {
+                                                                                                                                                            return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                        }
+                                                                                                                                                    });
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<R>> one) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return one.apply(a);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<R>> two) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b);
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<R>> three) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c);
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<R>> four) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .switchMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d);
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<R>> five) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .switchMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .switchMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e);
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<R>> six) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .switchMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .switchMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .switchMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f);
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<R>> seven) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .switchMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .switchMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .switchMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .switchMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<R>> eight) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .switchMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .switchMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .switchMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .switchMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                                    .switchMap(new Function<H, Publisher<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                            return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple creation functions chained by {@link Flowable#switchMap(Function)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Flowable<R> doSwitchMap(
+            final Callable<Publisher<A>> zero,
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Publisher<R>> nine) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .switchMap(new Function<A, Publisher<R>>() {
+                        @Override
+                        public Publisher<R> apply(final A a) throws Exception {
+                            return Flowable.fromPublisher(one.apply(a))
+                                    .switchMap(new Function<B, Publisher<R>>() {
+                                        @Override
+                                        public Publisher<R> apply(final B b) throws Exception {
+                                            return Flowable.fromPublisher(two.apply(a, b))
+                                                    .switchMap(new Function<C, Publisher<R>>() {
+                                                        @Override
+                                                        public Publisher<R> apply(final C c) throws Exception {
+                                                            return Flowable.fromPublisher(three.apply(a, b, c))
+                                                                    .switchMap(new Function<D, Publisher<R>>() {
+                                                                        @Override
+                                                                        public Publisher<R> apply(final D d) throws Exception {
+                                                                            return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                                    .switchMap(new Function<E, Publisher<R>>() {
+                                                                                        @Override
+                                                                                        public Publisher<R> apply(final E e) throws Exception {
+                                                                                            return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                                    .switchMap(new Function<F, Publisher<R>>() {
+                                                                                                        @Override
+                                                                                                        public Publisher<R> apply(final F f) throws Exception {
+                                                                                                            return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                                    .switchMap(new Function<G, Publisher<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                            return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                                    .switchMap(new Function<H, Publisher<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                            return Flowable.fromPublisher(eight.apply(a, b, c, d, e, f, g, h))
+                                                                                                                                                    .switchMap(new Function<I, Publisher<R>>() {
+                                                                                                                                                        @Override
+                                                                                                                                                        public Publisher<R> apply(final I i) throws Exception {
+                                                                                                                                                            return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                        }
+                                                                                                                                                    });
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, R> one) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, R> two) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, R> three) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, R> four) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, R> five) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, R> six) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, G> six,
+            final FlowableTransformer<G, R> seven) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six)
+                    .compose(seven);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, G> six,
+            final FlowableTransformer<G, H> seven,
+            final FlowableTransformer<H, R> eight) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six)
+                    .compose(seven)
+                    .compose(eight);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes a {@link Flowable} from multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)}.
+     *
+     * @return composed Flowable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Flowable<R> doCompose(
+            final Callable<Publisher<A>> zero,
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, G> six,
+            final FlowableTransformer<G, H> seven,
+            final FlowableTransformer<H, I> eight,
+            final FlowableTransformer<I, R> nine) {
+        try {
+            return Flowable.fromPublisher(zero.call())
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six)
+                    .compose(seven)
+                    .compose(eight)
+                    .compose(nine);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<R>> one) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<R>> two) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return two.apply(a, b);
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<R>> three) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<R>> four) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .flatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<R>> five) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .flatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .flatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<R>> six) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .flatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .flatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .flatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<R>> seven) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .flatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .flatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .flatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .flatMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<R>> eight) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .flatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .flatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .flatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .flatMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                        .flatMap(new Function<H, Publisher<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#flatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> FlowableTransformer<A, R> compileFlatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Publisher<R>> nine) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .flatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .flatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .flatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .flatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .flatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .flatMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                        .flatMap(new Function<H, Publisher<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                return Flowable.fromPublisher(eight.apply(a, b, c, d, e, f, g, h))
+                                                                                                                                        .flatMap(new Function<I, Publisher<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Publisher<R> apply(final I i) throws Exception {
+                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<R>> one) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<R>> two) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return two.apply(a, b);
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<R>> three) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<R>> four) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .concatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<R>> five) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .concatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .concatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<R>> six) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .concatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .concatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .concatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<R>> seven) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .concatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .concatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .concatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .concatMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<R>> eight) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .concatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .concatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .concatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .concatMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                        .concatMap(new Function<H, Publisher<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#concatMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> FlowableTransformer<A, R> compileConcatMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Publisher<R>> nine) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .concatMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .concatMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .concatMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .concatMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .concatMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .concatMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                        .concatMap(new Function<H, Publisher<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                return Flowable.fromPublisher(eight.apply(a, b, c, d, e, f, g, h))
+                                                                                                                                        .concatMap(new Function<I, Publisher<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Publisher<R> apply(final I i) throws Exception {
+                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<R>> one) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<R>> two) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return two.apply(a, b);
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<R>> three) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<R>> four) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .switchMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<R>> five) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .switchMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .switchMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<R>> six) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .switchMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .switchMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .switchMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<R>> seven) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .switchMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .switchMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .switchMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .switchMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<R>> eight) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .switchMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .switchMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .switchMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .switchMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                        .switchMap(new Function<H, Publisher<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Flowable#switchMap(Function)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> FlowableTransformer<A, R> compileSwitchMap(
+            final Function<A, Publisher<B>> one,
+            final BiFunction<A, B, Publisher<C>> two,
+            final Function3<A, B, C, Publisher<D>> three,
+            final Function4<A, B, C, D, Publisher<E>> four,
+            final Function5<A, B, C, D, E, Publisher<F>> five,
+            final Function6<A, B, C, D, E, F, Publisher<G>> six,
+            final Function7<A, B, C, D, E, F, G, Publisher<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Publisher<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Publisher<R>> nine) {
+        final Function<A, Publisher<R>> stages = new Function<A, Publisher<R>>() {
+            @Override
+            public Publisher<R> apply(final A a) throws Exception {
+                return Flowable.fromPublisher(one.apply(a))
+                        .switchMap(new Function<B, Publisher<R>>() {
+                            @Override
+                            public Publisher<R> apply(final B b) throws Exception {
+                                return Flowable.fromPublisher(two.apply(a, b))
+                                        .switchMap(new Function<C, Publisher<R>>() {
+                                            @Override
+                                            public Publisher<R> apply(final C c) throws Exception {
+                                                return Flowable.fromPublisher(three.apply(a, b, c))
+                                                        .switchMap(new Function<D, Publisher<R>>() {
+                                                            @Override
+                                                            public Publisher<R> apply(final D d) throws Exception {
+                                                                return Flowable.fromPublisher(four.apply(a, b, c, d))
+                                                                        .switchMap(new Function<E, Publisher<R>>() {
+                                                                            @Override
+                                                                            public Publisher<R> apply(final E e) throws Exception {
+                                                                                return Flowable.fromPublisher(five.apply(a, b, c, d, e))
+                                                                                        .switchMap(new Function<F, Publisher<R>>() {
+                                                                                            @Override
+                                                                                            public Publisher<R> apply(final F f) throws Exception {
+                                                                                                return Flowable.fromPublisher(six.apply(a, b, c, d, e, f))
+                                                                                                        .switchMap(new Function<G, Publisher<R>>() {
+                                                                                                            @Override
+                                                                                                            public Publisher<R> apply(final G g) throws Exception {
+                                                                                                                return Flowable.fromPublisher(seven.apply(a, b, c, d, e, f, g))
+                                                                                                                        .switchMap(new Function<H, Publisher<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Publisher<R> apply(final H h) throws Exception {
+                                                                                                                                return Flowable.fromPublisher(eight.apply(a, b, c, d, e, f, g, h))
+                                                                                                                                        .switchMap(new Function<I, Publisher<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Publisher<R> apply(final I i) throws Exception {
+                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, R> one) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, R> two) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, R> three) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, R> four) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, R> five) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, R> six) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, G> six,
+            final FlowableTransformer<G, R> seven) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six)
+                        .compose(seven);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, G> six,
+            final FlowableTransformer<G, H> seven,
+            final FlowableTransformer<H, R> eight) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six)
+                        .compose(seven)
+                        .compose(eight);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link FlowableTransformer} chained by {@link Flowable#compose(FlowableTransformer)} into a reusable {@link FlowableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> FlowableTransformer<A, R> compileCompose(
+            final FlowableTransformer<A, B> one,
+            final FlowableTransformer<B, C> two,
+            final FlowableTransformer<C, D> three,
+            final FlowableTransformer<D, E> four,
+            final FlowableTransformer<E, F> five,
+            final FlowableTransformer<F, G> six,
+            final FlowableTransformer<G, H> seven,
+            final FlowableTransformer<H, I> eight,
+            final FlowableTransformer<I, R> nine) {
+        return new FlowableTransformer<A, R>() {
+            @Override
+            public Publisher<R> apply(Flowable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six)
+                        .compose(seven)
+                        .compose(eight)
+                        .compose(nine);
+            }
+        };
+    }
+}
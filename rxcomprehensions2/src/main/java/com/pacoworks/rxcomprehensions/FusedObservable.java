@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+
+/**
+ * Source followed by the steps of consecutive {@link FusibleTransformer}, run by a single {@link Observer}.
+ *
+ * @author pakoito
+ */
+final class FusedObservable<R> extends Observable<R> {
+    /**
+     * Returned by a {@link Step} to drop the element.
+     */
+    static final Object SKIP = new Object();
+
+    /**
+     * Per-subscription transformation of one element.
+     */
+    interface Step {
+        Object apply(Object value) throws Exception;
+    }
+
+    private final ObservableSource<?> source;
+
+    private final FusibleTransformer<?, ?>[] transformers;
+
+    private FusedObservable(ObservableSource<?> source, FusibleTransformer<?, ?>[] transformers) {
+        this.source = source;
+        this.transformers = transformers;
+    }
+
+    static <R> Observable<R> fuse(Observable<?> upstream, FusibleTransformer<?, R> transformer) {
+        if (upstream instanceof FusedObservable) {
+            final FusedObservable<?> fused = (FusedObservable<?>) upstream;
+            final FusibleTransformer<?, ?>[] transformers = new FusibleTransformer<?, ?>[fused.transformers.length + 1];
+            System.arraycopy(fused.transformers, 0, transformers, 0, fused.transformers.length);
+            transformers[fused.transformers.length] = transformer;
+            return new FusedObservable<R>(fused.source, transformers);
+        }
+        return new FusedObservable<R>(upstream, new FusibleTransformer<?, ?>[]{transformer});
+    }
+
+    /**
+     * @return number of fused steps
+     */
+    int size() {
+        return transformers.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Observer<? super R> observer) {
+        final Step[] steps = new Step[transformers.length];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = transformers[i].newStep();
+        }
+        ((ObservableSource<Object>) source).subscribe(new FusedObserver<R>(observer, steps));
+    }
+
+    private static final class FusedObserver<R> implements Observer<Object> {
+        private final Observer<? super R> actual;
+
+        private final Step[] steps;
+
+        private Disposable upstream;
+
+        private boolean done;
+
+        FusedObserver(Observer<? super R> actual, Step[] steps) {
+            this.actual = actual;
+            this.steps = steps;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            actual.onSubscribe(d);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(Object value) {
+            if (done) {
+                return;
+            }
+            Object current = value;
+            try {
+                for (Step step : steps) {
+                    current = step.apply(current);
+                    if (current == SKIP) {
+                        return;
+                    }
+                    if (current == null) {
+                        throw new NullPointerException("A fused step returned null");
+                    }
+                }
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            actual.onNext((R) current);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onComplete();
+        }
+    }
+}
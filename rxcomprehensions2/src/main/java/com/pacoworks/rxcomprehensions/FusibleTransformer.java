@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+
+/**
+ * {@link ObservableTransformer} applying a per-element step that can be fused with adjacent ones at assembly time.
+ * <p>
+ * Composing a {@link FusibleTransformer} onto the result of another one, as {@link RxComprehensions#doCompose(java.util.concurrent.Callable, ObservableTransformer, ObservableTransformer)} does,
+ * doesn't add an operator: the steps are run in sequence by a single {@link io.reactivex.Observer}, removing the subscriber hop per stage.
+ * Instances are created by {@link FusibleTransformers}.
+ *
+ * @author pakoito
+ */
+public abstract class FusibleTransformer<T, R> implements ObservableTransformer<T, R> {
+    FusibleTransformer() {
+        // Library-provided only
+    }
+
+    /**
+     * @return step for a new subscription
+     */
+    abstract FusedObservable.Step newStep();
+
+    @Override
+    public final ObservableSource<R> apply(Observable<T> upstream) {
+        return FusedObservable.fuse(upstream, this);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * Factories of {@link FusibleTransformer} for the per-element operators {@code map}, {@code filter}, and {@code scan}.
+ * Adjacent ones passed to {@link RxComprehensions#doCompose(java.util.concurrent.Callable, io.reactivex.ObservableTransformer, io.reactivex.ObservableTransformer)} run as a single operator.
+ *
+ * @author pakoito
+ */
+public final class FusibleTransformers {
+    private FusibleTransformers() {
+        // No instances
+    }
+
+    /**
+     * Fusible equivalent of {@link io.reactivex.Observable#map(Function)}.
+     *
+     * @return fusible transformer
+     */
+    public static <T, R> FusibleTransformer<T, R> map(final Function<? super T, ? extends R> mapper) {
+        return new FusibleTransformer<T, R>() {
+            private final FusedObservable.Step step = new FusedObservable.Step() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object apply(Object value) throws Exception {
+                    return mapper.apply((T) value);
+                }
+            };
+
+            @Override
+            FusedObservable.Step newStep() {
+                return step;
+            }
+        };
+    }
+
+    /**
+     * Fusible equivalent of {@link io.reactivex.Observable#filter(Predicate)}.
+     *
+     * @return fusible transformer
+     */
+    public static <T> FusibleTransformer<T, T> filter(final Predicate<? super T> predicate) {
+        return new FusibleTransformer<T, T>() {
+            private final FusedObservable.Step step = new FusedObservable.Step() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object apply(Object value) throws Exception {
+                    return predicate.test((T) value) ? value : FusedObservable.SKIP;
+                }
+            };
+
+            @Override
+            FusedObservable.Step newStep() {
+                return step;
+            }
+        };
+    }
+
+    /**
+     * Fusible equivalent of {@link io.reactivex.Observable#scan(BiFunction)}: emits the first element, then each accumulation.
+     *
+     * @return fusible transformer
+     */
+    public static <T> FusibleTransformer<T, T> scan(final BiFunction<T, T, T> accumulator) {
+        return new FusibleTransformer<T, T>() {
+            @Override
+            FusedObservable.Step newStep() {
+                return new FusedObservable.Step() {
+                    private boolean first = true;
+
+                    private T value;
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object apply(Object next) throws Exception {
+                        if (first) {
+                            first = false;
+                            value = (T) next;
+                        } else {
+                            value = accumulator.apply(value, (T) next);
+                        }
+                        return value;
+                    }
+                };
+            }
+        };
+    }
+}
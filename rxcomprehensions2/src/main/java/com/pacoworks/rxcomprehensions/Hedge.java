@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Notification;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+
+/**
+ * Hedges the inner {@link Observable} of a stage: if it hasn't signalled within a delay, a second copy is subscribed
+ * and the first one to signal wins, disposing the other.
+ * <p>
+ * The delay is either fixed or the given percentile of the latencies seen by the same instance:
+ * <pre>{@code
+ * Hedge pricing = Hedge.adaptive(0.95, 100, 50, 10, TimeUnit.MILLISECONDS, Schedulers.computation());
+ *
+ * RxComprehensions.doFlatMap(
+ *     () -> carts(),
+ *     cart -> getStock(cart),
+ *     (cart, stock) -> Observable.defer(() -> getPrice(cart, stock)).compose(pricing.hedge())
+ * );
+ * }</pre>
+ * The second copy resubscribes to the same inner {@link Observable}, so it must be cold and safe to run twice.
+ * <p>
+ * Adaptive delays only sample the first subscription. When the copy wins, the first one is disposed before it signals, and the
+ * time until then is recorded as its latency. That is shorter than the real one, so hedging itself biases the percentile down,
+ * and subscribing more copies pulls the delay further down. The delay never goes below {@code minDelay}, which bounds that loop.
+ *
+ * @author pakoito
+ */
+public final class Hedge {
+    private final Scheduler scheduler;
+
+    private final Window window;
+
+    private final AtomicLong hedged = new AtomicLong();
+
+    private final long minDelayNanos;
+
+    private volatile long delayNanos;
+
+    private Hedge(Scheduler scheduler, long delayNanos, long minDelayNanos, Window window) {
+        this.scheduler = scheduler;
+        this.delayNanos = delayNanos;
+        this.minDelayNanos = minDelayNanos;
+        this.window = window;
+    }
+
+    /**
+     * Creates a {@link Hedge} subscribing to the second copy after a fixed {@code delay}.
+     *
+     * @return new Hedge
+     */
+    public static Hedge after(long delay, TimeUnit unit, Scheduler scheduler) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay < 0: " + delay);
+        }
+        return new Hedge(scheduler, unit.toNanos(delay), 0, null);
+    }
+
+    /**
+     * Creates a {@link Hedge} subscribing to the second copy after the {@code percentile} of the last {@code window} latencies
+     * of first subscriptions, measured from subscription to the first signal, and never before {@code minDelay}.
+     * Until {@code window} latencies are recorded it waits {@code initialDelay}.
+     *
+     * @return new Hedge
+     */
+    public static Hedge adaptive(double percentile, int window, long initialDelay, long minDelay, TimeUnit unit, Scheduler scheduler) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile not in (0, 1]: " + percentile);
+        }
+        if (window <= 0) {
+            throw new IllegalArgumentException("window <= 0: " + window);
+        }
+        if (minDelay < 0) {
+            throw new IllegalArgumentException("minDelay < 0: " + minDelay);
+        }
+        if (initialDelay < minDelay) {
+            throw new IllegalArgumentException("initialDelay < minDelay: " + initialDelay);
+        }
+        return new Hedge(scheduler, unit.toNanos(initialDelay), unit.toNanos(minDelay), new Window(percentile, window));
+    }
+
+    /**
+     * Transformer racing its upstream against a copy subscribed after the current delay.
+     *
+     * @return hedging transformer
+     */
+    public <T> ObservableTransformer<T, T> hedge() {
+        return new ObservableTransformer<T, T>() {
+            @Override
+            public ObservableSource<T> apply(final Observable<T> upstream) {
+                return Observable.defer(new Callable<ObservableSource<T>>() {
+                    @Override
+                    public ObservableSource<T> call() {
+                        return race(upstream);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * @return delay before subscribing to the second copy
+     */
+    public long delay(TimeUnit unit) {
+        return unit.convert(delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return number of second copies subscribed so far
+     */
+    public long hedged() {
+        return hedged.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Observable<T> race(Observable<T> upstream) {
+        final Observable<T> copy = upstream
+                .doOnSubscribe(new Consumer<Disposable>() {
+                    @Override
+                    public void accept(Disposable disposable) {
+                        hedged.incrementAndGet();
+                    }
+                })
+                .delaySubscription(delayNanos, TimeUnit.NANOSECONDS, scheduler);
+        return Observable.ambArray(window == null ? upstream : sampled(upstream), copy);
+    }
+
+    private <T> Observable<T> sampled(Observable<T> primary) {
+        final long start = scheduler.now(TimeUnit.NANOSECONDS);
+        final AtomicBoolean recorded = new AtomicBoolean();
+        final Action record = new Action() {
+            @Override
+            public void run() {
+                if (recorded.compareAndSet(false, true)) {
+                    record(scheduler.now(TimeUnit.NANOSECONDS) - start);
+                }
+            }
+        };
+        return primary.doOnEach(new Consumer<Notification<T>>() {
+            @Override
+            public void accept(Notification<T> notification) throws Exception {
+                record.run();
+            }
+        }).doOnDispose(record);
+    }
+
+    private void record(long latencyNanos) {
+        final long percentile = window.record(latencyNanos);
+        if (percentile >= 0) {
+            delayNanos = Math.max(minDelayNanos, percentile);
+        }
+    }
+
+    private static final class Window {
+        private final double percentile;
+
+        private final long[] samples;
+
+        private final long[] sorted;
+
+        private final int recomputeEvery;
+
+        private long recorded;
+
+        Window(double percentile, int size) {
+            this.percentile = percentile;
+            this.samples = new long[size];
+            this.sorted = new long[size];
+            this.recomputeEvery = Math.max(1, size / 10);
+        }
+
+        /**
+         * @return new percentile, or -1 when it is not recomputed on this sample
+         */
+        synchronized long record(long latencyNanos) {
+            samples[(int) (recorded % samples.length)] = latencyNanos;
+            recorded++;
+            if (recorded < samples.length || recorded % recomputeEvery != 0) {
+                return -1;
+            }
+            System.arraycopy(samples, 0, sorted, 0, samples.length);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+        }
+    }
+}
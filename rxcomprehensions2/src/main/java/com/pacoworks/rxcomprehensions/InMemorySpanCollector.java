@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SpanCollector} keeping every {@link Span} in memory, for tests and local diagnostics.
+ *
+ * @author pakoito
+ */
+public final class InMemorySpanCollector implements SpanCollector {
+    private final List<Span> spans = new ArrayList<Span>();
+
+    @Override
+    public synchronized void collect(Span span) {
+        spans.add(span);
+    }
+
+    /**
+     * @return copy of the spans collected so far, in the order they ended
+     */
+    public synchronized List<Span> spans() {
+        return new ArrayList<Span>(spans);
+    }
+
+    public synchronized void clear() {
+        spans.clear();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * What {@link RxComprehensions#doFlatMapByKey} does with an element arriving over its bounds on keys or on elements waiting per key.
+ *
+ * @author pakoito
+ */
+public enum KeyOverflow {
+    /**
+     * Fails the comprehension with {@link RejectedExecutionException}.
+     */
+    ERROR,
+    /**
+     * Skips the element without running its stages, and continues with the next ones.
+     */
+    DROP
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableSource;
+
+/**
+ * Runs the {@link Observable} of each key one at a time, in subscription order, while different keys run concurrently.
+ * <p>
+ * A lane only exists while it has subscriptions running or waiting, so idle keys are evicted immediately. At most
+ * {@code maxKeys} lanes exist at the same time, and each one holds at most {@code maxQueuedPerKey} waiting subscriptions.
+ * Subscriptions over either bound fail with {@link RejectedExecutionException} or complete empty, depending on the {@link KeyOverflow}.
+ *
+ * @author pakoito
+ */
+final class KeyedLanes<K> {
+    private final Map<K, Lane> lanes = new HashMap<K, Lane>();
+
+    private final int maxKeys;
+
+    private final int maxQueuedPerKey;
+
+    private final KeyOverflow overflow;
+
+    KeyedLanes() {
+        this(Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR);
+    }
+
+    KeyedLanes(int maxKeys, int maxQueuedPerKey, KeyOverflow overflow) {
+        checkBounds(maxKeys, maxQueuedPerKey);
+        if (overflow == null) {
+            throw new NullPointerException("overflow is null");
+        }
+        this.maxKeys = maxKeys;
+        this.maxQueuedPerKey = maxQueuedPerKey;
+        this.overflow = overflow;
+    }
+
+    static void checkBounds(int maxKeys, int maxQueuedPerKey) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys <= 0: " + maxKeys);
+        }
+        if (maxQueuedPerKey < 0) {
+            throw new IllegalArgumentException("maxQueuedPerKey < 0: " + maxQueuedPerKey);
+        }
+    }
+
+    /**
+     * @return Observable subscribing to the result of {@code source} once every earlier subscription for {@code key} has terminated
+     */
+    <T> Observable<T> serialize(final K key, final Callable<? extends ObservableSource<? extends T>> source) {
+        return Observable.defer(new Callable<ObservableSource<T>>() {
+            @Override
+            public ObservableSource<T> call() {
+                final Lane lane = acquire(key);
+                if (lane == null) {
+                    return overflow == KeyOverflow.DROP ? Observable.<T>empty() : Observable.<T>error(new RejectedExecutionException("Key limit exceeded"));
+                }
+                return Observable.<T>defer(source).compose(lane.<T>admit());
+            }
+        });
+    }
+
+    /**
+     * @return number of keys with subscriptions running or waiting
+     */
+    int size() {
+        synchronized (lanes) {
+            return lanes.size();
+        }
+    }
+
+    private Lane acquire(K key) {
+        synchronized (lanes) {
+            Lane lane = lanes.get(key);
+            if (lane == null) {
+                if (lanes.size() >= maxKeys) {
+                    return null;
+                }
+                lane = new Lane(key);
+                lanes.put(key, lane);
+            }
+            lane.users++;
+            return lane;
+        }
+    }
+
+    private final class Lane extends Admission {
+        private final K key;
+
+        private int users;
+
+        Lane(K key) {
+            super(maxQueuedPerKey);
+            this.key = key;
+        }
+
+        @Override
+        int limit() {
+            return 1;
+        }
+
+        @Override
+        void onDone() {
+            synchronized (lanes) {
+                if (--users == 0) {
+                    lanes.remove(key);
+                }
+            }
+        }
+
+        @Override
+        void onReject(ObservableEmitter<?> emitter) {
+            if (overflow == KeyOverflow.DROP) {
+                emitter.onComplete();
+            } else {
+                emitter.onError(new RejectedExecutionException("Key queue full"));
+            }
+        }
+    }
+}
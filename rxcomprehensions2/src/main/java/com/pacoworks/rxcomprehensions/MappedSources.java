@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+
+/**
+ * Zero sources streaming the records of a local file through {@link FileChannel#map(FileChannel.MapMode, long, long)}, with backpressure.
+ * <p>
+ * Each record is emitted as a read-only {@link ByteBuffer} view of the mapped file, without copying it into a {@link String} or array:
+ * <pre>{@code
+ * FlowableComprehensions.doConcatMap(
+ *     () -> MappedSources.lines(new File("events.csv")),
+ *     line -> parse(line),
+ *     (line, event) -> store(event)
+ * );
+ * }</pre>
+ * The file is mapped one region at a time, so files larger than 2GB are supported as long as every record fits in a region,
+ * or in a larger mapping of up to 2GB for longer records.
+ *
+ * @author pakoito
+ */
+public final class MappedSources {
+    private static final int DEFAULT_REGION_BYTES = 64 * 1024 * 1024;
+
+    private MappedSources() {
+        // No instances
+    }
+
+    /**
+     * Emits every line of {@code file}, without its line terminator, mapping 64MB at a time.
+     *
+     * @return Flowable of lines
+     */
+    public static Flowable<ByteBuffer> lines(File file) {
+        return lines(file, DEFAULT_REGION_BYTES);
+    }
+
+    /**
+     * Emits every line of {@code file}, without its line terminator, mapping {@code regionBytes} at a time.
+     *
+     * @return Flowable of lines
+     */
+    public static Flowable<ByteBuffer> lines(File file, int regionBytes) {
+        return generate(file, regionBytes, new BiFunction<Region, Emitter<ByteBuffer>, Region>() {
+            @Override
+            public Region apply(Region region, Emitter<ByteBuffer> emitter) throws Exception {
+                final ByteBuffer line = region.nextLine();
+                if (line != null) {
+                    emitter.onNext(line);
+                }
+                if (region.isExhausted()) {
+                    emitter.onComplete();
+                }
+                return region;
+            }
+        });
+    }
+
+    /**
+     * Emits every record of {@code file}, each one prefixed by its length as a big-endian int, mapping 64MB at a time.
+     *
+     * @return Flowable of records
+     */
+    public static Flowable<ByteBuffer> lengthDelimited(File file) {
+        return lengthDelimited(file, DEFAULT_REGION_BYTES);
+    }
+
+    /**
+     * Emits every record of {@code file}, each one prefixed by its length as a big-endian int, mapping {@code regionBytes} at a time.
+     *
+     * @return Flowable of records
+     */
+    public static Flowable<ByteBuffer> lengthDelimited(File file, int regionBytes) {
+        return generate(file, regionBytes, new BiFunction<Region, Emitter<ByteBuffer>, Region>() {
+            @Override
+            public Region apply(Region region, Emitter<ByteBuffer> emitter) throws Exception {
+                final ByteBuffer record = region.nextRecord();
+                if (record != null) {
+                    emitter.onNext(record);
+                }
+                if (region.isExhausted()) {
+                    emitter.onComplete();
+                }
+                return region;
+            }
+        });
+    }
+
+    private static Flowable<ByteBuffer> generate(final File file, final int regionBytes, BiFunction<Region, Emitter<ByteBuffer>, Region> generator) {
+        if (regionBytes <= 0) {
+            throw new IllegalArgumentException("regionBytes <= 0: " + regionBytes);
+        }
+        return Flowable.generate(
+                new Callable<Region>() {
+                    @Override
+                    public Region call() throws IOException {
+                        return new Region(new RandomAccessFile(file, "r"), regionBytes);
+                    }
+                },
+                generator,
+                new Consumer<Region>() {
+                    @Override
+                    public void accept(Region region) throws IOException {
+                        region.close();
+                    }
+                });
+    }
+
+    /**
+     * Mapping of the part of the file starting at {@code base}, and the position of the next record.
+     */
+    private static final class Region {
+        private final RandomAccessFile file;
+
+        private final FileChannel channel;
+
+        private final long size;
+
+        private final int regionBytes;
+
+        private MappedByteBuffer buffer;
+
+        private long base;
+
+        private long position;
+
+        Region(RandomAccessFile file, int regionBytes) throws IOException {
+            this.file = file;
+            this.channel = file.getChannel();
+            this.size = channel.size();
+            this.regionBytes = regionBytes;
+        }
+
+        ByteBuffer nextLine() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+            ensure(1);
+            int start = (int) (position - base);
+            int end = start;
+            while (true) {
+                if (end == buffer.limit()) {
+                    if (base + end == size) {
+                        position = size;
+                        return slice(start, end);
+                    }
+                    final int scanned = end - start;
+                    remap(position, Math.max(regionBytes, 2L * scanned));
+                    start = 0;
+                    end = scanned;
+                    continue;
+                }
+                if (buffer.get(end) == '\n') {
+                    position = base + end + 1;
+                    return slice(start, end > start && buffer.get(end - 1) == '\r' ? end - 1 : end);
+                }
+                end++;
+            }
+        }
+
+        ByteBuffer nextRecord() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+            ensure(4);
+            final int length = buffer.getInt((int) (position - base));
+            if (length < 0) {
+                throw new IOException("Negative record length " + length + " at " + position);
+            }
+            ensure(4L + length);
+            final int start = (int) (position - base) + 4;
+            position += 4 + length;
+            return slice(start, start + length);
+        }
+
+        boolean isExhausted() {
+            return position >= size;
+        }
+
+        void close() throws IOException {
+            buffer = null;
+            file.close();
+        }
+
+        /**
+         * Maps at least {@code bytes} from {@code position}, failing if the file is shorter.
+         */
+        private void ensure(long bytes) throws IOException {
+            if (position + bytes > size) {
+                throw new EOFException("Truncated record at " + position);
+            }
+            if (buffer == null || position + bytes > base + buffer.limit()) {
+                remap(position, Math.max(regionBytes, bytes));
+            }
+        }
+
+        private void remap(long offset, long bytes) throws IOException {
+            final long length = Math.min(bytes, size - offset);
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Record at " + offset + " larger than " + Integer.MAX_VALUE + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            base = offset;
+        }
+
+        private ByteBuffer slice(int start, int end) {
+            final ByteBuffer view = buffer.duplicate();
+            view.limit(end);
+            view.position(start);
+            return view.slice();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+
+/**
+ * Token bucket admitting up to {@code permitsPerSecond} subscriptions or elements per second across every stage limited by the same instance,
+ * with bursts of up to {@code burst} after a quiet period.
+ * <p>
+ * No thread is blocked while waiting for a permit: {@link #limit()} delays the subscription to a stage on the {@link Scheduler},
+ * and {@link #pace()} delays each element of a {@link Flowable} while requesting one element at a time from its upstream.
+ * <pre>{@code
+ * RateLimiter geocoding = RateLimiter.create(50, 10, 2, TimeUnit.SECONDS, Schedulers.computation());
+ *
+ * RxComprehensions.doFlatMap(
+ *     () -> addresses(),
+ *     address -> normalize(address),
+ *     (address, normalized) -> geocode(normalized).compose(geocoding.limit())
+ * );
+ * }</pre>
+ *
+ * @author pakoito
+ */
+public final class RateLimiter {
+    private final Scheduler scheduler;
+
+    private final long intervalNanos;
+
+    private final long burstNanos;
+
+    private final long maxWaitNanos;
+
+    private long nextNanos = Long.MIN_VALUE;
+
+    private RateLimiter(Scheduler scheduler, long intervalNanos, int burst, long maxWaitNanos) {
+        this.scheduler = scheduler;
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = (burst - 1) * intervalNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * Creates a {@link RateLimiter} that waits as long as needed for a permit.
+     *
+     * @return new RateLimiter
+     */
+    public static RateLimiter create(double permitsPerSecond, int burst, Scheduler scheduler) {
+        return create(permitsPerSecond, burst, Long.MAX_VALUE, TimeUnit.NANOSECONDS, scheduler);
+    }
+
+    /**
+     * Creates a {@link RateLimiter} that fails subscriptions with {@link RejectedExecutionException} when they would wait longer than {@code maxWait} for a permit.
+     *
+     * @return new RateLimiter
+     */
+    public static RateLimiter create(double permitsPerSecond, int burst, long maxWait, TimeUnit unit, Scheduler scheduler) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond <= 0: " + permitsPerSecond);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst <= 0: " + burst);
+        }
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("maxWait < 0: " + maxWait);
+        }
+        return new RateLimiter(scheduler, Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond)), burst, unit.toNanos(maxWait));
+    }
+
+    /**
+     * Transformer delaying the subscription to its upstream until a permit is available.
+     *
+     * @return limiting transformer
+     */
+    public <T> ObservableTransformer<T, T> limit() {
+        return new ObservableTransformer<T, T>() {
+            @Override
+            public ObservableSource<T> apply(final Observable<T> upstream) {
+                return Observable.defer(new Callable<ObservableSource<T>>() {
+                    @Override
+                    public ObservableSource<T> call() {
+                        final long waitNanos = reserve();
+                        if (waitNanos < 0) {
+                            return Observable.error(new RejectedExecutionException("Rate limit exceeded"));
+                        }
+                        return waitNanos == 0 ? upstream : upstream.delaySubscription(waitNanos, TimeUnit.NANOSECONDS, scheduler);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Transformer emitting each element of its upstream once a permit is available, requesting the next one only after.
+     * Elements are never rejected.
+     *
+     * @return pacing transformer
+     */
+    public <T> FlowableTransformer<T, T> pace() {
+        return new FlowableTransformer<T, T>() {
+            @Override
+            public Publisher<T> apply(Flowable<T> upstream) {
+                return upstream.concatMap(new Function<T, Publisher<T>>() {
+                    @Override
+                    public Publisher<T> apply(T t) {
+                        final long waitNanos = reserve(Long.MAX_VALUE);
+                        return waitNanos == 0 ? Flowable.just(t) : Flowable.just(t).delay(waitNanos, TimeUnit.NANOSECONDS, scheduler);
+                    }
+                }, 1);
+            }
+        };
+    }
+
+    private long reserve() {
+        return reserve(maxWaitNanos);
+    }
+
+    /**
+     * @return nanoseconds to wait for the reserved permit, or -1 if it would be over {@code maxWaitNanos} and none was reserved
+     */
+    private synchronized long reserve(long maxWaitNanos) {
+        final long now = scheduler.now(TimeUnit.NANOSECONDS);
+        final long next = Math.max(nextNanos, now);
+        final long waitNanos = Math.max(0, next - now - burstNanos);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        nextNanos = next + intervalNanos;
+        return waitNanos;
+    }
+}
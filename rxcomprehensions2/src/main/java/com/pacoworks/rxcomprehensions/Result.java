@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+/**
+ * Outcome of a stage that can fail in an expected way: either a value, or an error value describing the failure.
+ * <p>
+ * Failures are plain values rather than {@link Throwable}, so rejecting an element costs no stack trace.
+ * Used by the stages of {@link RxComprehensions#doFlatMapResult(java.util.concurrent.Callable, io.reactivex.functions.Function)},
+ * where a failure skips the remaining stages.
+ *
+ * @author pakoito
+ */
+public final class Result<T, E> {
+    private final T value;
+
+    private final E error;
+
+    private final boolean success;
+
+    private Result(T value, E error, boolean success) {
+        this.value = value;
+        this.error = error;
+        this.success = success;
+    }
+
+    public static <T, E> Result<T, E> success(T value) {
+        return new Result<T, E>(value, null, true);
+    }
+
+    public static <T, E> Result<T, E> failure(E error) {
+        return new Result<T, E>(null, error, false);
+    }
+
+    /**
+     * @return whether this is a success
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return value of a success
+     */
+    public T value() {
+        if (!success) {
+            throw new IllegalStateException("Not a success: " + this);
+        }
+        return value;
+    }
+
+    /**
+     * @return error of a failure
+     */
+    public E error() {
+        if (success) {
+            throw new IllegalStateException("Not a failure: " + this);
+        }
+        return error;
+    }
+
+    /**
+     * @return this failure, typed as the failure of any other value
+     */
+    @SuppressWarnings("unchecked")
+    <U> Result<U, E> asFailure() {
+        return (Result<U, E>) this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Result)) {
+            return false;
+        }
+        final Result<?, ?> other = (Result<?, ?>) o;
+        return success == other.success
+                && (success ? equal(value, other.value) : equal(error, other.error));
+    }
+
+    @Override
+    public int hashCode() {
+        final Object content = success ? value : error;
+        return 31 * (success ? 1 : 0) + (content == null ? 0 : content.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return success ? "Success(" + value + ")" : "Failure(" + error + ")";
+    }
+
+    private static boolean equal(Object first, Object second) {
+        return first == null ? second == null : first.equals(second);
+    }
+}
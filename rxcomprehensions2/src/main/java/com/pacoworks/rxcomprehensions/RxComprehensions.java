@@ -17,10 +17,14 @@
 package com.pacoworks.rxcomprehensions;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
 import io.reactivex.ObservableTransformer;
 import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
 import io.reactivex.functions.Function3;
 import io.reactivex.functions.Function4;
@@ -29,6 +33,7 @@ import io.reactivex.functions.Function6;
 import io.reactivex.functions.Function7;
 import io.reactivex.functions.Function8;
 import io.reactivex.functions.Function9;
+import io.reactivex.functions.Predicate;
 
 /**
  * Helper class to reduce boilerplate introduced by nested {@link Observable#flatMap(Function)}, {@link Observable#concatMap(Function)}, and {@link Observable#switchMap(Function)} calls.
@@ -36,6 +41,20 @@ import io.reactivex.functions.Function9;
  * @author pakoito
  */
 public final class RxComprehensions {
+    private static final Function<Observable<Object>, Observable<Object>> FLATTEN = new Function<Observable<Object>, Observable<Object>>() {
+        @Override
+        public Observable<Object> apply(Observable<Object> observable) {
+            return observable;
+        }
+    };
+
+    private static final Predicate<Object> ALWAYS = new Predicate<Object>() {
+        @Override
+        public boolean test(Object o) {
+            return true;
+        }
+    };
+
     private RxComprehensions() {
         // No instances
     }
@@ -481,6 +500,231 @@ public final class RxComprehensions {
         }
     }
 
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<R>> one) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 1);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 2);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 3);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 4);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 5);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 6);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 7);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 8);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#FLAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doFlatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.FLAT_MAP, 9);
+        return doFlatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight),
+                describe(bound.stage(9), nine));
+    }
+
     /**
      * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)}.
      *
@@ -922,6 +1166,231 @@ public final class RxComprehensions {
         }
     }
 
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<R>> one) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 1);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 2);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 3);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 4);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 5);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 6);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 7);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 8);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#CONCAT_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doConcatMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.CONCAT_MAP, 9);
+        return doConcatMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight),
+                describe(bound.stage(9), nine));
+    }
+
     /**
      * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)}.
      *
@@ -1363,33 +1832,3336 @@ public final class RxComprehensions {
         }
     }
 
-
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
      *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
      * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
      */
-    public static <A, R> Observable<R> doCompose(
+    public static <A, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
             final Callable<Observable<A>> zero,
-            final ObservableTransformer<A, R> one) {
-        try {
-            return zero.call()
-                    .compose(one);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+            final Function<A, Observable<R>> one) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 1);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one));
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
      *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
      * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
      */
-    public static <A, B, R> Observable<R> doCompose(
+    public static <A, B, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
             final Callable<Observable<A>> zero,
-            final ObservableTransformer<A, B> one,
-            final ObservableTransformer<B, R> two) {
-        try {
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 2);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 3);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 4);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 5);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 6);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 7);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 8);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple creation functions chained by {@link Observable#switchMap(Function)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per function, recorded as chained by {@link ComprehensionDescriptor.Operator#SWITCH_MAP}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per function
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doSwitchMap(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.SWITCH_MAP, 9);
+        return doSwitchMap(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight),
+                describe(bound.stage(9), nine));
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<R>> one) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three, four);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three, four, five);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three, four, five, six);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three, four, five, six, seven);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, H, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three, four, five, six, seven, eight);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * Keys are only tracked while they have elements in flight, and neither the number of keys nor the elements waiting for each key are bounded.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, H, I, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        return doFlatMapByKey(zero, keySelector, Integer.MAX_VALUE, Integer.MAX_VALUE, KeyOverflow.ERROR, one, two, three, four, five, six, seven, eight, nine);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<R>> one) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a);
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b);
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c);
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c)
+                                                                                .flatMap(new Function<D, Observable<R>>() {
+                                                                                    @Override
+                                                                                    public Observable<R> apply(final D d) throws Exception {
+                                                                                        return four.apply(a, b, c, d);
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c)
+                                                                                .flatMap(new Function<D, Observable<R>>() {
+                                                                                    @Override
+                                                                                    public Observable<R> apply(final D d) throws Exception {
+                                                                                        return four.apply(a, b, c, d)
+                                                                                                .flatMap(new Function<E, Observable<R>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<R> apply(final E e) throws Exception {
+                                                                                                        return five.apply(a, b, c, d, e);
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c)
+                                                                                .flatMap(new Function<D, Observable<R>>() {
+                                                                                    @Override
+                                                                                    public Observable<R> apply(final D d) throws Exception {
+                                                                                        return four.apply(a, b, c, d)
+                                                                                                .flatMap(new Function<E, Observable<R>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<R> apply(final E e) throws Exception {
+                                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                                .flatMap(new Function<F, Observable<R>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<R> apply(final F f) throws Exception {
+                                                                                                                        return six.apply(a, b, c, d, e, f);
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c)
+                                                                                .flatMap(new Function<D, Observable<R>>() {
+                                                                                    @Override
+                                                                                    public Observable<R> apply(final D d) throws Exception {
+                                                                                        return four.apply(a, b, c, d)
+                                                                                                .flatMap(new Function<E, Observable<R>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<R> apply(final E e) throws Exception {
+                                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                                .flatMap(new Function<F, Observable<R>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<R> apply(final F f) throws Exception {
+                                                                                                                        return six.apply(a, b, c, d, e, f)
+                                                                                                                                .flatMap(new Function<G, Observable<R>>() {
+                                                                                                                                    @Override
+                                                                                                                                    public Observable<R> apply(final G g) throws Exception {
+                                                                                                                                        return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                                    }
+                                                                                                                                });
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, H, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c)
+                                                                                .flatMap(new Function<D, Observable<R>>() {
+                                                                                    @Override
+                                                                                    public Observable<R> apply(final D d) throws Exception {
+                                                                                        return four.apply(a, b, c, d)
+                                                                                                .flatMap(new Function<E, Observable<R>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<R> apply(final E e) throws Exception {
+                                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                                .flatMap(new Function<F, Observable<R>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<R> apply(final F f) throws Exception {
+                                                                                                                        return six.apply(a, b, c, d, e, f)
+                                                                                                                                .flatMap(new Function<G, Observable<R>>() {
+                                                                                                                                    @Override
+                                                                                                                                    public Observable<R> apply(final G g) throws Exception {
+                                                                                                                                        return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                                .flatMap(new Function<H, Observable<R>>() {
+                                                                                                                                                    @Override
+                                                                                                                                                    public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                                        return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                                    }
+                                                                                                                                                });
+                                                                                                                                    }
+                                                                                                                                });
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * running the stages of elements with the same key one element at a time, in order, and elements with different keys concurrently.
+     * <p>
+     * At most {@code maxKeys} keys have elements in flight, and at most {@code maxQueuedPerKey} elements of each key wait behind the running one.
+     * Elements over either bound are handled as set by {@code overflow}. Keys are evicted as soon as they have no elements in flight.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, H, I, R> Observable<R> doFlatMapByKey(
+            final Callable<Observable<A>> zero,
+            final Function<A, K> keySelector,
+            final int maxKeys,
+            final int maxQueuedPerKey,
+            final KeyOverflow overflow,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        KeyedLanes.checkBounds(maxKeys, maxQueuedPerKey);
+        return Observable.defer(new Callable<ObservableSource<R>>() {
+            @Override
+            public ObservableSource<R> call() throws Exception {
+                final KeyedLanes<K> lanes = new KeyedLanes<K>(maxKeys, maxQueuedPerKey, overflow);
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                return lanes.serialize(keySelector.apply(a), new Callable<Observable<R>>() {
+                                    @Override
+                                    public Observable<R> call() throws Exception {
+                                        return one.apply(a)
+                                                .flatMap(new Function<B, Observable<R>>() {
+                                                    @Override
+                                                    public Observable<R> apply(final B b) throws Exception {
+                                                        return two.apply(a, b)
+                                                                .flatMap(new Function<C, Observable<R>>() {
+                                                                    @Override
+                                                                    public Observable<R> apply(final C c) throws Exception {
+                                                                        return three.apply(a, b, c)
+                                                                                .flatMap(new Function<D, Observable<R>>() {
+                                                                                    @Override
+                                                                                    public Observable<R> apply(final D d) throws Exception {
+                                                                                        return four.apply(a, b, c, d)
+                                                                                                .flatMap(new Function<E, Observable<R>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<R> apply(final E e) throws Exception {
+                                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                                .flatMap(new Function<F, Observable<R>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<R> apply(final F f) throws Exception {
+                                                                                                                        return six.apply(a, b, c, d, e, f)
+                                                                                                                                .flatMap(new Function<G, Observable<R>>() {
+                                                                                                                                    @Override
+                                                                                                                                    public Observable<R> apply(final G g) throws Exception {
+                                                                                                                                        return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                                .flatMap(new Function<H, Observable<R>>() {
+                                                                                                                                                    @Override
+                                                                                                                                                    public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                                        return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                                                .flatMap(new Function<I, Observable<R>>() {
+                                                                                                                                                                    @Override
+                                                                                                                                                                    public Observable<R> apply(final I i) throws Exception {
+                                                                                                                                                                        return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                                    }
+                                                                                                                                                                });
+                                                                                                                                                    }
+                                                                                                                                                });
+                                                                                                                                    }
+                                                                                                                                });
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<R>> one) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three, four);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three, four, five);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three, four, five, six);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three, four, five, six, seven);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three, four, five, six, seven, eight);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result.
+     * <p>
+     * Once a result is produced no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doFlatMapFirst(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        return doFlatMapFirstMatch(zero, RxComprehensions.<R>always(), one, two, three, four, five, six, seven, eight, nine);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<R>> one) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a);
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b);
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c)
+                                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                                if (done.get()) {
+                                                                                    return Observable.empty();
+                                                                                }
+                                                                                return four.apply(a, b, c, d);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c)
+                                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                                if (done.get()) {
+                                                                                    return Observable.empty();
+                                                                                }
+                                                                                return four.apply(a, b, c, d)
+                                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                                if (done.get()) {
+                                                                                                    return Observable.empty();
+                                                                                                }
+                                                                                                return five.apply(a, b, c, d, e);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c)
+                                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                                if (done.get()) {
+                                                                                    return Observable.empty();
+                                                                                }
+                                                                                return four.apply(a, b, c, d)
+                                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                                if (done.get()) {
+                                                                                                    return Observable.empty();
+                                                                                                }
+                                                                                                return five.apply(a, b, c, d, e)
+                                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                                if (done.get()) {
+                                                                                                                    return Observable.empty();
+                                                                                                                }
+                                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c)
+                                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                                if (done.get()) {
+                                                                                    return Observable.empty();
+                                                                                }
+                                                                                return four.apply(a, b, c, d)
+                                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                                if (done.get()) {
+                                                                                                    return Observable.empty();
+                                                                                                }
+                                                                                                return five.apply(a, b, c, d, e)
+                                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                                if (done.get()) {
+                                                                                                                    return Observable.empty();
+                                                                                                                }
+                                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                                        .flatMap(new Function<G, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                                if (done.get()) {
+                                                                                                                                    return Observable.empty();
+                                                                                                                                }
+                                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c)
+                                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                                if (done.get()) {
+                                                                                    return Observable.empty();
+                                                                                }
+                                                                                return four.apply(a, b, c, d)
+                                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                                if (done.get()) {
+                                                                                                    return Observable.empty();
+                                                                                                }
+                                                                                                return five.apply(a, b, c, d, e)
+                                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                                if (done.get()) {
+                                                                                                                    return Observable.empty();
+                                                                                                                }
+                                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                                        .flatMap(new Function<G, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                                if (done.get()) {
+                                                                                                                                    return Observable.empty();
+                                                                                                                                }
+                                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                        .flatMap(new Function<H, Observable<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                                if (done.get()) {
+                                                                                                                                                    return Observable.empty();
+                                                                                                                                                }
+                                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#flatMap(Function)},
+     * completing with the first result that matches the predicate.
+     * <p>
+     * Once a result matches no stage is called again and every stage in flight is disposed, at any depth.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doFlatMapFirstMatch(
+            final Callable<Observable<A>> zero,
+            final Predicate<R> predicate,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        return Observable.defer(new Callable<Observable<R>>() {
+            @Override
+            public Observable<R> call() throws Exception {
+                final AtomicBoolean done = new AtomicBoolean();
+                return zero.call()
+                        .flatMap(new Function<A, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final A a) throws Exception {
+                                if (done.get()) {
+                                    return Observable.empty();
+                                }
+                                return one.apply(a)
+                                        .flatMap(new Function<B, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final B b) throws Exception {
+                                                if (done.get()) {
+                                                    return Observable.empty();
+                                                }
+                                                return two.apply(a, b)
+                                                        .flatMap(new Function<C, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final C c) throws Exception {
+                                                                if (done.get()) {
+                                                                    return Observable.empty();
+                                                                }
+                                                                return three.apply(a, b, c)
+                                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                                if (done.get()) {
+                                                                                    return Observable.empty();
+                                                                                }
+                                                                                return four.apply(a, b, c, d)
+                                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                                if (done.get()) {
+                                                                                                    return Observable.empty();
+                                                                                                }
+                                                                                                return five.apply(a, b, c, d, e)
+                                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                                if (done.get()) {
+                                                                                                                    return Observable.empty();
+                                                                                                                }
+                                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                                        .flatMap(new Function<G, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                                if (done.get()) {
+                                                                                                                                    return Observable.empty();
+                                                                                                                                }
+                                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                        .flatMap(new Function<H, Observable<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                                if (done.get()) {
+                                                                                                                                                    return Observable.empty();
+                                                                                                                                                }
+                                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                                        .flatMap(new Function<I, Observable<R>>() {
+                                                                                                                                                            @Override
+                                                                                                                                                            public Observable<R> apply(final I i) throws Exception {
+                                                                                                                                                                if (done.get()) {
+                                                                                                                                                                    return Observable.empty();
+                                                                                                                                                                }
+                                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                            }
+                                                                                                                                                        });
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        })
+                        .filter(new Predicate<R>() {
+                            @Override
+                            public boolean test(R r) throws Exception {
+                                return predicate.test(r) && done.compareAndSet(false, true);
+                            }
+                        })
+                        .take(1);
+            }
+        });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<R>> one) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a);
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b);
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c);
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c)
+                                                                    .concatMap(new Function<D, Observable<R>>() {
+                                                                        @Override
+                                                                        public Observable<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d);
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c)
+                                                                    .concatMap(new Function<D, Observable<R>>() {
+                                                                        @Override
+                                                                        public Observable<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d)
+                                                                                    .concatMap(new Function<E, Observable<R>>() {
+                                                                                        @Override
+                                                                                        public Observable<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e);
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c)
+                                                                    .concatMap(new Function<D, Observable<R>>() {
+                                                                        @Override
+                                                                        public Observable<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d)
+                                                                                    .concatMap(new Function<E, Observable<R>>() {
+                                                                                        @Override
+                                                                                        public Observable<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e)
+                                                                                                    .concatMap(new Function<F, Observable<R>>() {
+                                                                                                        @Override
+                                                                                                        public Observable<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f);
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c)
+                                                                    .concatMap(new Function<D, Observable<R>>() {
+                                                                        @Override
+                                                                        public Observable<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d)
+                                                                                    .concatMap(new Function<E, Observable<R>>() {
+                                                                                        @Override
+                                                                                        public Observable<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e)
+                                                                                                    .concatMap(new Function<F, Observable<R>>() {
+                                                                                                        @Override
+                                                                                                        public Observable<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f)
+                                                                                                                    .concatMap(new Function<G, Observable<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Observable<R> apply(final G g) throws Exception {
+                                                                                                                            return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, H, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c)
+                                                                    .concatMap(new Function<D, Observable<R>>() {
+                                                                        @Override
+                                                                        public Observable<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d)
+                                                                                    .concatMap(new Function<E, Observable<R>>() {
+                                                                                        @Override
+                                                                                        public Observable<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e)
+                                                                                                    .concatMap(new Function<F, Observable<R>>() {
+                                                                                                        @Override
+                                                                                                        public Observable<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f)
+                                                                                                                    .concatMap(new Function<G, Observable<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Observable<R> apply(final G g) throws Exception {
+                                                                                                                            return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                    .concatMap(new Function<H, Observable<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                            return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions chained by {@link Observable#concatMap(Function)},
+     * recording in {@code journal} the key of each element of zero once it completes every stage, and skipping the elements already recorded.
+     * <p>
+     * Resubscribing after a failure, or after a restart with the same journal, resumes from the first element not completed.
+     *
+     * @return composed Observable
+     */
+    public static <K, A, B, C, D, E, F, G, H, I, R> Observable<R> doConcatMapResumable(
+            final Callable<Observable<A>> zero,
+            final CheckpointJournal<K> journal,
+            final Function<A, K> keySelector,
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        try {
+            return zero.call()
+                    .filter(journal.pending(keySelector))
+                    .concatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            final Observable<R> stages = one.apply(a)
+                                    .concatMap(new Function<B, Observable<R>>() {
+                                        @Override
+                                        public Observable<R> apply(final B b) throws Exception {
+                                            return two.apply(a, b)
+                                                    .concatMap(new Function<C, Observable<R>>() {
+                                                        @Override
+                                                        public Observable<R> apply(final C c) throws Exception {
+                                                            return three.apply(a, b, c)
+                                                                    .concatMap(new Function<D, Observable<R>>() {
+                                                                        @Override
+                                                                        public Observable<R> apply(final D d) throws Exception {
+                                                                            return four.apply(a, b, c, d)
+                                                                                    .concatMap(new Function<E, Observable<R>>() {
+                                                                                        @Override
+                                                                                        public Observable<R> apply(final E e) throws Exception {
+                                                                                            return five.apply(a, b, c, d, e)
+                                                                                                    .concatMap(new Function<F, Observable<R>>() {
+                                                                                                        @Override
+                                                                                                        public Observable<R> apply(final F f) throws Exception {
+                                                                                                            return six.apply(a, b, c, d, e, f)
+                                                                                                                    .concatMap(new Function<G, Observable<R>>() {
+                                                                                                                        @Override
+                                                                                                                        public Observable<R> apply(final G g) throws Exception {
+                                                                                                                            return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                    .concatMap(new Function<H, Observable<R>>() {
+                                                                                                                                        @Override
+                                                                                                                                        public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                            return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                                    .concatMap(new Function<I, Observable<R>>() {
+                                                                                                                                                        @Override
+                                                                                                                                                        public Observable<R> apply(final I i) throws Exception {
+                                                                                                                                                            return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                        }
+                                                                                                                                                    });
+                                                                                                                                        }
+                                                                                                                                    });
+                                                                                                                        }
+                                                                                                                    });
+                                                                                                        }
+                                                                                                    });
+                                                                                        }
+                                                                                    });
+                                                                        }
+                                                                    });
+                                                        }
+                                                    });
+                                        }
+                                    });
+                            return journal.checkpoint(keySelector.apply(a), stages);
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<R, X>>> one) {
+        return Observable.defer(zero)
+                .flatMap(one);
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<R, X>>> two) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<R, X>>> three) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c);
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, D, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<D, X>>> three,
+            final Function4<A, B, C, D, Observable<Result<R, X>>> four) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c)
+                                                                .flatMap(new Function<Result<D, X>, Observable<Result<R, X>>>() {
+                                                                    @Override
+                                                                    public Observable<Result<R, X>> apply(final Result<D, X> dResult) throws Exception {
+                                                                        if (!dResult.isSuccess()) {
+                                                                            return Observable.just(dResult.<R>asFailure());
+                                                                        }
+                                                                        final D d = dResult.value();
+                                                                        return four.apply(a, b, c, d);
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, D, E, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<D, X>>> three,
+            final Function4<A, B, C, D, Observable<Result<E, X>>> four,
+            final Function5<A, B, C, D, E, Observable<Result<R, X>>> five) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c)
+                                                                .flatMap(new Function<Result<D, X>, Observable<Result<R, X>>>() {
+                                                                    @Override
+                                                                    public Observable<Result<R, X>> apply(final Result<D, X> dResult) throws Exception {
+                                                                        if (!dResult.isSuccess()) {
+                                                                            return Observable.just(dResult.<R>asFailure());
+                                                                        }
+                                                                        final D d = dResult.value();
+                                                                        return four.apply(a, b, c, d)
+                                                                                .flatMap(new Function<Result<E, X>, Observable<Result<R, X>>>() {
+                                                                                    @Override
+                                                                                    public Observable<Result<R, X>> apply(final Result<E, X> eResult) throws Exception {
+                                                                                        if (!eResult.isSuccess()) {
+                                                                                            return Observable.just(eResult.<R>asFailure());
+                                                                                        }
+                                                                                        final E e = eResult.value();
+                                                                                        return five.apply(a, b, c, d, e);
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, D, E, F, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<D, X>>> three,
+            final Function4<A, B, C, D, Observable<Result<E, X>>> four,
+            final Function5<A, B, C, D, E, Observable<Result<F, X>>> five,
+            final Function6<A, B, C, D, E, F, Observable<Result<R, X>>> six) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c)
+                                                                .flatMap(new Function<Result<D, X>, Observable<Result<R, X>>>() {
+                                                                    @Override
+                                                                    public Observable<Result<R, X>> apply(final Result<D, X> dResult) throws Exception {
+                                                                        if (!dResult.isSuccess()) {
+                                                                            return Observable.just(dResult.<R>asFailure());
+                                                                        }
+                                                                        final D d = dResult.value();
+                                                                        return four.apply(a, b, c, d)
+                                                                                .flatMap(new Function<Result<E, X>, Observable<Result<R, X>>>() {
+                                                                                    @Override
+                                                                                    public Observable<Result<R, X>> apply(final Result<E, X> eResult) throws Exception {
+                                                                                        if (!eResult.isSuccess()) {
+                                                                                            return Observable.just(eResult.<R>asFailure());
+                                                                                        }
+                                                                                        final E e = eResult.value();
+                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                .flatMap(new Function<Result<F, X>, Observable<Result<R, X>>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<Result<R, X>> apply(final Result<F, X> fResult) throws Exception {
+                                                                                                        if (!fResult.isSuccess()) {
+                                                                                                            return Observable.just(fResult.<R>asFailure());
+                                                                                                        }
+                                                                                                        final F f = fResult.value();
+                                                                                                        return six.apply(a, b, c, d, e, f);
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, D, E, F, G, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<D, X>>> three,
+            final Function4<A, B, C, D, Observable<Result<E, X>>> four,
+            final Function5<A, B, C, D, E, Observable<Result<F, X>>> five,
+            final Function6<A, B, C, D, E, F, Observable<Result<G, X>>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<Result<R, X>>> seven) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c)
+                                                                .flatMap(new Function<Result<D, X>, Observable<Result<R, X>>>() {
+                                                                    @Override
+                                                                    public Observable<Result<R, X>> apply(final Result<D, X> dResult) throws Exception {
+                                                                        if (!dResult.isSuccess()) {
+                                                                            return Observable.just(dResult.<R>asFailure());
+                                                                        }
+                                                                        final D d = dResult.value();
+                                                                        return four.apply(a, b, c, d)
+                                                                                .flatMap(new Function<Result<E, X>, Observable<Result<R, X>>>() {
+                                                                                    @Override
+                                                                                    public Observable<Result<R, X>> apply(final Result<E, X> eResult) throws Exception {
+                                                                                        if (!eResult.isSuccess()) {
+                                                                                            return Observable.just(eResult.<R>asFailure());
+                                                                                        }
+                                                                                        final E e = eResult.value();
+                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                .flatMap(new Function<Result<F, X>, Observable<Result<R, X>>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<Result<R, X>> apply(final Result<F, X> fResult) throws Exception {
+                                                                                                        if (!fResult.isSuccess()) {
+                                                                                                            return Observable.just(fResult.<R>asFailure());
+                                                                                                        }
+                                                                                                        final F f = fResult.value();
+                                                                                                        return six.apply(a, b, c, d, e, f)
+                                                                                                                .flatMap(new Function<Result<G, X>, Observable<Result<R, X>>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<Result<R, X>> apply(final Result<G, X> gResult) throws Exception {
+                                                                                                                        if (!gResult.isSuccess()) {
+                                                                                                                            return Observable.just(gResult.<R>asFailure());
+                                                                                                                        }
+                                                                                                                        final G g = gResult.value();
+                                                                                                                        return seven.apply(a, b, c, d, e, f, g);
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, D, E, F, G, H, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<D, X>>> three,
+            final Function4<A, B, C, D, Observable<Result<E, X>>> four,
+            final Function5<A, B, C, D, E, Observable<Result<F, X>>> five,
+            final Function6<A, B, C, D, E, F, Observable<Result<G, X>>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<Result<H, X>>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<Result<R, X>>> eight) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c)
+                                                                .flatMap(new Function<Result<D, X>, Observable<Result<R, X>>>() {
+                                                                    @Override
+                                                                    public Observable<Result<R, X>> apply(final Result<D, X> dResult) throws Exception {
+                                                                        if (!dResult.isSuccess()) {
+                                                                            return Observable.just(dResult.<R>asFailure());
+                                                                        }
+                                                                        final D d = dResult.value();
+                                                                        return four.apply(a, b, c, d)
+                                                                                .flatMap(new Function<Result<E, X>, Observable<Result<R, X>>>() {
+                                                                                    @Override
+                                                                                    public Observable<Result<R, X>> apply(final Result<E, X> eResult) throws Exception {
+                                                                                        if (!eResult.isSuccess()) {
+                                                                                            return Observable.just(eResult.<R>asFailure());
+                                                                                        }
+                                                                                        final E e = eResult.value();
+                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                .flatMap(new Function<Result<F, X>, Observable<Result<R, X>>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<Result<R, X>> apply(final Result<F, X> fResult) throws Exception {
+                                                                                                        if (!fResult.isSuccess()) {
+                                                                                                            return Observable.just(fResult.<R>asFailure());
+                                                                                                        }
+                                                                                                        final F f = fResult.value();
+                                                                                                        return six.apply(a, b, c, d, e, f)
+                                                                                                                .flatMap(new Function<Result<G, X>, Observable<Result<R, X>>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<Result<R, X>> apply(final Result<G, X> gResult) throws Exception {
+                                                                                                                        if (!gResult.isSuccess()) {
+                                                                                                                            return Observable.just(gResult.<R>asFailure());
+                                                                                                                        }
+                                                                                                                        final G g = gResult.value();
+                                                                                                                        return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                .flatMap(new Function<Result<H, X>, Observable<Result<R, X>>>() {
+                                                                                                                                    @Override
+                                                                                                                                    public Observable<Result<R, X>> apply(final Result<H, X> hResult) throws Exception {
+                                                                                                                                        if (!hResult.isSuccess()) {
+                                                                                                                                            return Observable.just(hResult.<R>asFailure());
+                                                                                                                                        }
+                                                                                                                                        final H h = hResult.value();
+                                                                                                                                        return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                                    }
+                                                                                                                                });
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} from multiple creation functions returning {@link Result}, chained by {@link Observable#flatMap(Function)}.
+     * <p>
+     * A failed {@link Result} skips the remaining stages and is emitted as the result, without creating a {@link Throwable}.
+     *
+     * @return composed Observable
+     */
+    public static <X, A, B, C, D, E, F, G, H, I, R> Observable<Result<R, X>> doFlatMapResult(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<Result<B, X>>> one,
+            final BiFunction<A, B, Observable<Result<C, X>>> two,
+            final Function3<A, B, C, Observable<Result<D, X>>> three,
+            final Function4<A, B, C, D, Observable<Result<E, X>>> four,
+            final Function5<A, B, C, D, E, Observable<Result<F, X>>> five,
+            final Function6<A, B, C, D, E, F, Observable<Result<G, X>>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<Result<H, X>>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<Result<I, X>>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<Result<R, X>>> nine) {
+        return Observable.defer(zero)
+                .flatMap(new Function<A, Observable<Result<R, X>>>() {
+                    @Override
+                    public Observable<Result<R, X>> apply(final A a) throws Exception {
+                        return one.apply(a)
+                                .flatMap(new Function<Result<B, X>, Observable<Result<R, X>>>() {
+                                    @Override
+                                    public Observable<Result<R, X>> apply(final Result<B, X> bResult) throws Exception {
+                                        if (!bResult.isSuccess()) {
+                                            return Observable.just(bResult.<R>asFailure());
+                                        }
+                                        final B b = bResult.value();
+                                        return two.apply(a, b)
+                                                .flatMap(new Function<Result<C, X>, Observable<Result<R, X>>>() {
+                                                    @Override
+                                                    public Observable<Result<R, X>> apply(final Result<C, X> cResult) throws Exception {
+                                                        if (!cResult.isSuccess()) {
+                                                            return Observable.just(cResult.<R>asFailure());
+                                                        }
+                                                        final C c = cResult.value();
+                                                        return three.apply(a, b, c)
+                                                                .flatMap(new Function<Result<D, X>, Observable<Result<R, X>>>() {
+                                                                    @Override
+                                                                    public Observable<Result<R, X>> apply(final Result<D, X> dResult) throws Exception {
+                                                                        if (!dResult.isSuccess()) {
+                                                                            return Observable.just(dResult.<R>asFailure());
+                                                                        }
+                                                                        final D d = dResult.value();
+                                                                        return four.apply(a, b, c, d)
+                                                                                .flatMap(new Function<Result<E, X>, Observable<Result<R, X>>>() {
+                                                                                    @Override
+                                                                                    public Observable<Result<R, X>> apply(final Result<E, X> eResult) throws Exception {
+                                                                                        if (!eResult.isSuccess()) {
+                                                                                            return Observable.just(eResult.<R>asFailure());
+                                                                                        }
+                                                                                        final E e = eResult.value();
+                                                                                        return five.apply(a, b, c, d, e)
+                                                                                                .flatMap(new Function<Result<F, X>, Observable<Result<R, X>>>() {
+                                                                                                    @Override
+                                                                                                    public Observable<Result<R, X>> apply(final Result<F, X> fResult) throws Exception {
+                                                                                                        if (!fResult.isSuccess()) {
+                                                                                                            return Observable.just(fResult.<R>asFailure());
+                                                                                                        }
+                                                                                                        final F f = fResult.value();
+                                                                                                        return six.apply(a, b, c, d, e, f)
+                                                                                                                .flatMap(new Function<Result<G, X>, Observable<Result<R, X>>>() {
+                                                                                                                    @Override
+                                                                                                                    public Observable<Result<R, X>> apply(final Result<G, X> gResult) throws Exception {
+                                                                                                                        if (!gResult.isSuccess()) {
+                                                                                                                            return Observable.just(gResult.<R>asFailure());
+                                                                                                                        }
+                                                                                                                        final G g = gResult.value();
+                                                                                                                        return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                                .flatMap(new Function<Result<H, X>, Observable<Result<R, X>>>() {
+                                                                                                                                    @Override
+                                                                                                                                    public Observable<Result<R, X>> apply(final Result<H, X> hResult) throws Exception {
+                                                                                                                                        if (!hResult.isSuccess()) {
+                                                                                                                                            return Observable.just(hResult.<R>asFailure());
+                                                                                                                                        }
+                                                                                                                                        final H h = hResult.value();
+                                                                                                                                        return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                                .flatMap(new Function<Result<I, X>, Observable<Result<R, X>>>() {
+                                                                                                                                                    @Override
+                                                                                                                                                    public Observable<Result<R, X>> apply(final Result<I, X> iResult) throws Exception {
+                                                                                                                                                        if (!iResult.isSuccess()) {
+                                                                                                                                                            return Observable.just(iResult.<R>asFailure());
+                                                                                                                                                        }
+                                                                                                                                                        final I i = iResult.value();
+                                                                                                                                                        return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                                    }
+                                                                                                                                                });
+                                                                                                                                    }
+                                                                                                                                });
+                                                                                                                    }
+                                                                                                                });
+                                                                                                    }
+                                                                                                });
+                                                                                    }
+                                                                                });
+                                                                    }
+                                                                });
+                                                    }
+                                                });
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), new BiFunction<B, C, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c) throws Exception {
+                                    return three.apply(a, b, c);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function<A, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), three.apply(a), new Function3<B, C, D, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c, D d) throws Exception {
+                                    return four.apply(a, b, c, d);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function<A, Observable<D>> three,
+            final Function<A, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), three.apply(a), four.apply(a), new Function4<B, C, D, E, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c, D d, E e) throws Exception {
+                                    return five.apply(a, b, c, d, e);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function<A, Observable<D>> three,
+            final Function<A, Observable<E>> four,
+            final Function<A, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), three.apply(a), four.apply(a), five.apply(a), new Function5<B, C, D, E, F, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c, D d, E e, F f) throws Exception {
+                                    return six.apply(a, b, c, d, e, f);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function<A, Observable<D>> three,
+            final Function<A, Observable<E>> four,
+            final Function<A, Observable<F>> five,
+            final Function<A, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), three.apply(a), four.apply(a), five.apply(a), six.apply(a), new Function6<B, C, D, E, F, G, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c, D d, E e, F f, G g) throws Exception {
+                                    return seven.apply(a, b, c, d, e, f, g);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function<A, Observable<D>> three,
+            final Function<A, Observable<E>> four,
+            final Function<A, Observable<F>> five,
+            final Function<A, Observable<G>> six,
+            final Function<A, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), three.apply(a), four.apply(a), five.apply(a), six.apply(a), seven.apply(a), new Function7<B, C, D, E, F, G, H, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c, D d, E e, F f, G g, H h) throws Exception {
+                                    return eight.apply(a, b, c, d, e, f, g, h);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link io.reactivex.Observable} passing each element of zero to multiple independent creation functions,
+     * subscribed at the same time and joined by {@link Observable#zip(ObservableSource, ObservableSource, BiFunction)}, and then to the last function with every result.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doZip(
+            final Callable<Observable<A>> zero,
+            final Function<A, Observable<B>> one,
+            final Function<A, Observable<C>> two,
+            final Function<A, Observable<D>> three,
+            final Function<A, Observable<E>> four,
+            final Function<A, Observable<F>> five,
+            final Function<A, Observable<G>> six,
+            final Function<A, Observable<H>> seven,
+            final Function<A, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        try {
+            return zero.call()
+                    .flatMap(new Function<A, Observable<R>>() {
+                        @Override
+                        public Observable<R> apply(final A a) throws Exception {
+                            return Observable.zip(one.apply(a), two.apply(a), three.apply(a), four.apply(a), five.apply(a), six.apply(a), seven.apply(a), eight.apply(a), new Function8<B, C, D, E, F, G, H, I, Observable<R>>() {
+                                @Override
+                                public Observable<R> apply(B b, C c, D d, E e, F f, G g, H h, I i) throws Exception {
+                                    return nine.apply(a, b, c, d, e, f, g, h, i);
+                                }
+                            }).flatMap(RxComprehensions.<R>flatten());
+                        }
+                    });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Predicate<R> always() {
+        return (Predicate<R>) ALWAYS;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> Function<Observable<R>, Observable<R>> flatten() {
+        return (Function<Observable<R>, Observable<R>>) (Function<?, ?>) FLATTEN;
+    }
+
+    private static <A, R> Function<A, Observable<R>> describe(final StageDescriptor stage, final Function<A, Observable<R>> function) {
+        return new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, R> BiFunction<A, B, Observable<R>> describe(final StageDescriptor stage, final BiFunction<A, B, Observable<R>> function) {
+        return new BiFunction<A, B, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, R> Function3<A, B, C, Observable<R>> describe(final StageDescriptor stage, final Function3<A, B, C, Observable<R>> function) {
+        return new Function3<A, B, C, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, D, R> Function4<A, B, C, D, Observable<R>> describe(final StageDescriptor stage, final Function4<A, B, C, D, Observable<R>> function) {
+        return new Function4<A, B, C, D, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c, d);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, D, E, R> Function5<A, B, C, D, E, Observable<R>> describe(final StageDescriptor stage, final Function5<A, B, C, D, E, Observable<R>> function) {
+        return new Function5<A, B, C, D, E, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c, d, e);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, D, E, F, R> Function6<A, B, C, D, E, F, Observable<R>> describe(final StageDescriptor stage, final Function6<A, B, C, D, E, F, Observable<R>> function) {
+        return new Function6<A, B, C, D, E, F, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c, d, e, f);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, D, E, F, G, R> Function7<A, B, C, D, E, F, G, Observable<R>> describe(final StageDescriptor stage, final Function7<A, B, C, D, E, F, G, Observable<R>> function) {
+        return new Function7<A, B, C, D, E, F, G, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f, final G g) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c, d, e, f, g);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, D, E, F, G, H, R> Function8<A, B, C, D, E, F, G, H, Observable<R>> describe(final StageDescriptor stage, final Function8<A, B, C, D, E, F, G, H, Observable<R>> function) {
+        return new Function8<A, B, C, D, E, F, G, H, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c, d, e, f, g, h);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    private static <A, B, C, D, E, F, G, H, I, R> Function9<A, B, C, D, E, F, G, H, I, Observable<R>> describe(final StageDescriptor stage, final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> function) {
+        return new Function9<A, B, C, D, E, F, G, H, I, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h, final I i) {
+                Observable<R> observable;
+                try {
+                    observable = function.apply(a, b, c, d, e, f, g, h, i);
+                } catch (Exception exception) {
+                    observable = Observable.error(exception);
+                }
+                return observable.compose(stage.<R>describe());
+            }
+        };
+    }
+
+    /**
+     * Errors of the upstream passed through unchanged by the transformer aren't attributed to its stage.
+     */
+    private static <A, R> ObservableTransformer<A, R> describe(final StageDescriptor stage, final ObservableTransformer<A, R> transformer) {
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(final Observable<A> upstream) {
+                return Observable.defer(new Callable<ObservableSource<R>>() {
+                    @Override
+                    public ObservableSource<R> call() {
+                        final AtomicReference<Throwable> upstreamError = new AtomicReference<Throwable>();
+                        return upstream
+                                .doOnError(new Consumer<Throwable>() {
+                                    @Override
+                                    public void accept(Throwable throwable) {
+                                        upstreamError.set(throwable);
+                                    }
+                                })
+                                .compose(transformer)
+                                .onErrorResumeNext(new Function<Throwable, ObservableSource<R>>() {
+                                    @Override
+                                    public ObservableSource<R> apply(Throwable throwable) {
+                                        return Observable.error(throwable == upstreamError.get() || throwable instanceof StageException
+                                                ? throwable
+                                                : new StageException(stage, throwable));
+                                    }
+                                });
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, R> one) {
+        try {
+            return zero.call()
+                    .compose(one);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, R> two) {
+        try {
             return zero.call()
                     .compose(one)
                     .compose(two);
@@ -1399,104 +5171,1883 @@ public final class RxComprehensions {
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, R> three) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, R> four) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, R> five) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, R> six) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, G> six,
+            final ObservableTransformer<G, R> seven) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six)
+                    .compose(seven);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, G> six,
+            final ObservableTransformer<G, H> seven,
+            final ObservableTransformer<H, R> eight) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six)
+                    .compose(seven)
+                    .compose(eight);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     *
+     * @return composed Observable
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doCompose(
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, G> six,
+            final ObservableTransformer<G, H> seven,
+            final ObservableTransformer<H, I> eight,
+            final ObservableTransformer<I, R> nine) {
+        try {
+            return zero.call()
+                    .compose(one)
+                    .compose(two)
+                    .compose(three)
+                    .compose(four)
+                    .compose(five)
+                    .compose(six)
+                    .compose(seven)
+                    .compose(eight)
+                    .compose(nine);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, R> one) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 1);
+        return doCompose(zero,
+                describe(bound.stage(1), one));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, R> two) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 2);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, R> three) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 3);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, D, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, R> four) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 4);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, D, E, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, R> five) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 5);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, D, E, F, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, R> six) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 6);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, D, E, F, G, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, G> six,
+            final ObservableTransformer<G, R> seven) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 7);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, D, E, F, G, H, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, G> six,
+            final ObservableTransformer<G, H> seven,
+            final ObservableTransformer<H, R> eight) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 8);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight));
+    }
+
+    /**
+     * Composes an {@link Observable} from multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)},
+     * wrapping the errors of each stage in a {@link StageException} for its {@link StageDescriptor}.
+     *
+     * @param descriptor one stage per transformer, recorded as chained by {@link ComprehensionDescriptor.Operator#COMPOSE}
+     * @return composed Observable
+     * @throws IllegalArgumentException if the descriptor doesn't have one stage per transformer
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doCompose(
+            final ComprehensionDescriptor descriptor,
+            final Callable<Observable<A>> zero,
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, C> two,
+            final ObservableTransformer<C, D> three,
+            final ObservableTransformer<D, E> four,
+            final ObservableTransformer<E, F> five,
+            final ObservableTransformer<F, G> six,
+            final ObservableTransformer<G, H> seven,
+            final ObservableTransformer<H, I> eight,
+            final ObservableTransformer<I, R> nine) {
+        final ComprehensionDescriptor bound = descriptor.bind(ComprehensionDescriptor.Operator.COMPOSE, 9);
+        return doCompose(zero,
+                describe(bound.stage(1), one),
+                describe(bound.stage(2), two),
+                describe(bound.stage(3), three),
+                describe(bound.stage(4), four),
+                describe(bound.stage(5), five),
+                describe(bound.stage(6), six),
+                describe(bound.stage(7), seven),
+                describe(bound.stage(8), eight),
+                describe(bound.stage(9), nine));
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<R>> one) {
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b);
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .flatMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .flatMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                        .flatMap(new Function<H, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#flatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doFlatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> ObservableTransformer<A, R> compileFlatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .flatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .flatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .flatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .flatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .flatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .flatMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                        .flatMap(new Function<H, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                        .flatMap(new Function<I, Observable<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Observable<R> apply(final I i) throws Exception {
+                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.flatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<R>> one) {
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b);
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .concatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .concatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .concatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .concatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .concatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .concatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, E, F, G, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .concatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .concatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .concatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .concatMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .concatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .concatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .concatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .concatMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                        .concatMap(new Function<H, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#concatMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doConcatMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> ObservableTransformer<A, R> compileConcatMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .concatMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .concatMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .concatMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .concatMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .concatMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .concatMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                        .concatMap(new Function<H, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                        .concatMap(new Function<I, Observable<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Observable<R> apply(final I i) throws Exception {
+                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.concatMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<R>> one) {
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<R>> two) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b);
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<R>> three) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<R>> four) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .switchMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d);
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<R>> five) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .switchMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .switchMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e);
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<R>> six) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .switchMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .switchMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .switchMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f);
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<R>> seven) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .switchMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .switchMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .switchMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .switchMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g);
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<R>> eight) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .switchMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .switchMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .switchMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .switchMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                        .switchMap(new Function<H, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h);
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple creation functions chained by {@link Observable#switchMap(Function)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doSwitchMap} with that source as zero, and it can be reused for any number of sources.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> ObservableTransformer<A, R> compileSwitchMap(
+            final Function<A, Observable<B>> one,
+            final BiFunction<A, B, Observable<C>> two,
+            final Function3<A, B, C, Observable<D>> three,
+            final Function4<A, B, C, D, Observable<E>> four,
+            final Function5<A, B, C, D, E, Observable<F>> five,
+            final Function6<A, B, C, D, E, F, Observable<G>> six,
+            final Function7<A, B, C, D, E, F, G, Observable<H>> seven,
+            final Function8<A, B, C, D, E, F, G, H, Observable<I>> eight,
+            final Function9<A, B, C, D, E, F, G, H, I, Observable<R>> nine) {
+        final Function<A, Observable<R>> stages = new Function<A, Observable<R>>() {
+            @Override
+            public Observable<R> apply(final A a) throws Exception {
+                return one.apply(a)
+                        .switchMap(new Function<B, Observable<R>>() {
+                            @Override
+                            public Observable<R> apply(final B b) throws Exception {
+                                return two.apply(a, b)
+                                        .switchMap(new Function<C, Observable<R>>() {
+                                            @Override
+                                            public Observable<R> apply(final C c) throws Exception {
+                                                return three.apply(a, b, c)
+                                                        .switchMap(new Function<D, Observable<R>>() {
+                                                            @Override
+                                                            public Observable<R> apply(final D d) throws Exception {
+                                                                return four.apply(a, b, c, d)
+                                                                        .switchMap(new Function<E, Observable<R>>() {
+                                                                            @Override
+                                                                            public Observable<R> apply(final E e) throws Exception {
+                                                                                return five.apply(a, b, c, d, e)
+                                                                                        .switchMap(new Function<F, Observable<R>>() {
+                                                                                            @Override
+                                                                                            public Observable<R> apply(final F f) throws Exception {
+                                                                                                return six.apply(a, b, c, d, e, f)
+                                                                                                        .switchMap(new Function<G, Observable<R>>() {
+                                                                                                            @Override
+                                                                                                            public Observable<R> apply(final G g) throws Exception {
+                                                                                                                return seven.apply(a, b, c, d, e, f, g)
+                                                                                                                        .switchMap(new Function<H, Observable<R>>() {
+                                                                                                                            @Override
+                                                                                                                            public Observable<R> apply(final H h) throws Exception {
+                                                                                                                                return eight.apply(a, b, c, d, e, f, g, h)
+                                                                                                                                        .switchMap(new Function<I, Observable<R>>() {
+                                                                                                                                            @Override
+                                                                                                                                            public Observable<R> apply(final I i) throws Exception {
+                                                                                                                                                return nine.apply(a, b, c, d, e, f, g, h, i);
+                                                                                                                                            }
+                                                                                                                                        });
+                                                                                                                            }
+                                                                                                                        });
+                                                                                                            }
+                                                                                                        });
+                                                                                            }
+                                                                                        });
+                                                                            }
+                                                                        });
+                                                            }
+                                                        });
+                                            }
+                                        });
+                            }
+                        });
+            }
+        };
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream.switchMap(stages);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, R> ObservableTransformer<A, R> compileCompose(
+            final ObservableTransformer<A, R> one) {
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, R> ObservableTransformer<A, R> compileCompose(
+            final ObservableTransformer<A, B> one,
+            final ObservableTransformer<B, R> two) {
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two);
+            }
+        };
+    }
+
+    /**
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
+     *
+     * @return compiled comprehension
+     */
+    public static <A, B, C, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, R> three) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three);
+            }
+        };
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, D, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, D> three,
             final ObservableTransformer<D, R> four) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three)
-                    .compose(four);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four);
+            }
+        };
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, D, E, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, E, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, D> three,
             final ObservableTransformer<D, E> four,
             final ObservableTransformer<E, R> five) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three)
-                    .compose(four)
-                    .compose(five);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five);
+            }
+        };
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, D, E, F, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, E, F, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, D> three,
             final ObservableTransformer<D, E> four,
             final ObservableTransformer<E, F> five,
             final ObservableTransformer<F, R> six) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three)
-                    .compose(four)
-                    .compose(five)
-                    .compose(six);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six);
+            }
+        };
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, D, E, F, G, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, E, F, G, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, D> three,
@@ -1504,27 +7055,28 @@ public final class RxComprehensions {
             final ObservableTransformer<E, F> five,
             final ObservableTransformer<F, G> six,
             final ObservableTransformer<G, R> seven) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three)
-                    .compose(four)
-                    .compose(five)
-                    .compose(six)
-                    .compose(seven);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six)
+                        .compose(seven);
+            }
+        };
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, D, E, F, G, H, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, E, F, G, H, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, D> three,
@@ -1533,28 +7085,29 @@ public final class RxComprehensions {
             final ObservableTransformer<F, G> six,
             final ObservableTransformer<G, H> seven,
             final ObservableTransformer<H, R> eight) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three)
-                    .compose(four)
-                    .compose(five)
-                    .compose(six)
-                    .compose(seven)
-                    .compose(eight);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six)
+                        .compose(seven)
+                        .compose(eight);
+            }
+        };
     }
 
     /**
-     * Composes an {@link Observable} from multiple {@link Function} chained by {@link Observable#compose(ObservableTransformer)}.
+     * Compiles multiple {@link ObservableTransformer} chained by {@link Observable#compose(ObservableTransformer)} into a reusable {@link ObservableTransformer}.
+     * Applying it to a source is equivalent to calling {@link #doCompose} with that source as zero.
      *
-     * @return composed Observable
+     * @return compiled comprehension
      */
-    public static <A, B, C, D, E, F, G, H, I, R> Observable<R> doCompose(
-            final Callable<Observable<A>> zero,
+    public static <A, B, C, D, E, F, G, H, I, R> ObservableTransformer<A, R> compileCompose(
             final ObservableTransformer<A, B> one,
             final ObservableTransformer<B, C> two,
             final ObservableTransformer<C, D> three,
@@ -1564,19 +7117,20 @@ public final class RxComprehensions {
             final ObservableTransformer<G, H> seven,
             final ObservableTransformer<H, I> eight,
             final ObservableTransformer<I, R> nine) {
-        try {
-            return zero.call()
-                    .compose(one)
-                    .compose(two)
-                    .compose(three)
-                    .compose(four)
-                    .compose(five)
-                    .compose(six)
-                    .compose(seven)
-                    .compose(eight)
-                    .compose(nine);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return new ObservableTransformer<A, R>() {
+            @Override
+            public ObservableSource<R> apply(Observable<A> upstream) {
+                return upstream
+                        .compose(one)
+                        .compose(two)
+                        .compose(three)
+                        .compose(four)
+                        .compose(five)
+                        .compose(six)
+                        .compose(seven)
+                        .compose(eight)
+                        .compose(nine);
+            }
+        };
     }
 }
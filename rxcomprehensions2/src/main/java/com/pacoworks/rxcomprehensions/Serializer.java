@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.IOException;
+
+/**
+ * Converts values to and from bytes for the stores that keep them on disk, such as {@link DiskStore}.
+ *
+ * @author pakoito
+ */
+public interface Serializer<T> {
+    byte[] serialize(T value) throws IOException;
+
+    T deserialize(byte[] bytes) throws IOException;
+}
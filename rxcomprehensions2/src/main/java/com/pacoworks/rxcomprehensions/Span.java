@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+/**
+ * Timing of one subscription to a stage traced by {@link StageTracer}.
+ * <p>
+ * A span is passed to its {@link SpanCollector} once ended, after which it doesn't change.
+ *
+ * @author pakoito
+ */
+public final class Span {
+    private final String name;
+
+    private final long id;
+
+    private final long parentId;
+
+    private final long startNanos;
+
+    private volatile long endNanos;
+
+    private volatile Throwable error;
+
+    Span(String name, long id, long parentId) {
+        this.name = name;
+        this.id = id;
+        this.parentId = parentId;
+        this.startNanos = System.nanoTime();
+    }
+
+    void end(Throwable error) {
+        this.error = error;
+        this.endNanos = System.nanoTime();
+    }
+
+    /**
+     * @return name of the traced stage
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return identifier unique in this process
+     */
+    public long id() {
+        return id;
+    }
+
+    /**
+     * @return identifier of the span active when this one started, or 0 for root spans
+     */
+    public long parentId() {
+        return parentId;
+    }
+
+    /**
+     * @return time between subscription and termination or disposal
+     */
+    public long durationNanos() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * @return error the stage terminated with, or null
+     */
+    public Throwable error() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "Span{" + name + ", id=" + id + ", parentId=" + parentId + ", durationNanos=" + durationNanos() + (error != null ? ", error=" + error : "") + "}";
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.exceptions.Exceptions;
+
+/**
+ * Buffers that never slow down the producer of a {@link Flowable}, keeping elements in memory up to a threshold and spilling the rest to a file.
+ * <p>
+ * Elements are emitted downstream in order and as requested, reading spilled ones back from the file once those in memory are consumed:
+ * <pre>{@code
+ * FlowableComprehensions.doConcatMap(
+ *     () -> ingestion().compose(SpillBuffer.spill(new File("spill"), events, 10000)),
+ *     event -> enrich(event),
+ *     (event, enriched) -> store(enriched)
+ * );
+ * }</pre>
+ * Each subscription spills to its own file in the directory, deleted when the file is fully read or the subscription ends.
+ * <p>
+ * Errors are delivered in order too: an error from upstream, or from writing an element, is only signalled after every element
+ * buffered before it has been requested and emitted. Cancel the subscription to drop the buffered elements instead.
+ *
+ * @author pakoito
+ */
+public final class SpillBuffer {
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private SpillBuffer() {
+        // No instances
+    }
+
+    /**
+     * Requests every element from upstream, keeping up to {@code maxInMemory} of them in memory and writing the excess to {@code directory} with {@code serializer}.
+     *
+     * @return buffering transformer
+     */
+    public static <T> FlowableTransformer<T, T> spill(final File directory, final Serializer<T> serializer, final int maxInMemory) {
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("maxInMemory <= 0: " + maxInMemory);
+        }
+        return new FlowableTransformer<T, T>() {
+            @Override
+            public Publisher<T> apply(final Flowable<T> upstream) {
+                return new Flowable<T>() {
+                    @Override
+                    protected void subscribeActual(Subscriber<? super T> subscriber) {
+                        upstream.subscribe(new SpillSubscriber<T>(subscriber, new Spill<T>(directory, serializer, maxInMemory)));
+                    }
+                };
+            }
+        };
+    }
+
+    private static final class SpillSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super T> actual;
+
+        private final Spill<T> spill;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscription upstream;
+
+        private volatile boolean done;
+
+        private volatile boolean cancelled;
+
+        private Throwable error;
+
+        private volatile Throwable requestError;
+
+        SpillSubscriber(Subscriber<? super T> actual, Spill<T> spill) {
+            this.actual = actual;
+            this.spill = spill;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            actual.onSubscribe(this);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            try {
+                spill.offer(t);
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams rule 3.9
+                requestError = new IllegalArgumentException("n <= 0: " + n);
+                upstream.cancel();
+                drain();
+                return;
+            }
+            while (true) {
+                final long current = requested.get();
+                final long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                if (requested.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (cancelled) {
+                    spill.close();
+                    continue;
+                }
+                if (requestError != null) {
+                    cancelled = true;
+                    spill.close();
+                    actual.onError(requestError);
+                    return;
+                }
+                final long wanted = requested.get();
+                long emitted = 0;
+                while (emitted != wanted && !cancelled) {
+                    final boolean terminated = done;
+                    final T next;
+                    try {
+                        next = spill.poll();
+                    } catch (Throwable e) {
+                        Exceptions.throwIfFatal(e);
+                        cancelled = true;
+                        upstream.cancel();
+                        spill.close();
+                        actual.onError(e);
+                        return;
+                    }
+                    if (next == null) {
+                        if (terminated) {
+                            terminate();
+                            return;
+                        }
+                        break;
+                    }
+                    actual.onNext(next);
+                    emitted++;
+                }
+                if (emitted == wanted && done && !cancelled && spill.isEmpty()) {
+                    terminate();
+                    return;
+                }
+                if (emitted != 0 && wanted != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void terminate() {
+            cancelled = true;
+            spill.close();
+            if (error != null) {
+                actual.onError(error);
+            } else {
+                actual.onComplete();
+            }
+        }
+    }
+
+    /**
+     * Elements in memory, followed by the elements spilled to a file, in order.
+     */
+    private static final class Spill<T> {
+        private final File directory;
+
+        private final Serializer<T> serializer;
+
+        private final int maxInMemory;
+
+        private final ArrayDeque<T> memory = new ArrayDeque<T>();
+
+        private File file;
+
+        private DataOutputStream output;
+
+        private DataInputStream input;
+
+        private long spilled;
+
+        Spill(File directory, Serializer<T> serializer, int maxInMemory) {
+            this.directory = directory;
+            this.serializer = serializer;
+            this.maxInMemory = maxInMemory;
+        }
+
+        synchronized void offer(T t) throws IOException {
+            if (spilled == 0 && memory.size() < maxInMemory) {
+                memory.offer(t);
+                return;
+            }
+            if (output == null) {
+                file = File.createTempFile("spill", ".tmp", directory);
+                output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_BYTES));
+            }
+            final byte[] bytes = serializer.serialize(t);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+            spilled++;
+        }
+
+        synchronized T poll() throws IOException {
+            if (memory.isEmpty() && spilled > 0) {
+                refill();
+            }
+            return memory.poll();
+        }
+
+        synchronized boolean isEmpty() {
+            return memory.isEmpty() && spilled == 0;
+        }
+
+        synchronized void close() {
+            memory.clear();
+            spilled = 0;
+            closeFile();
+        }
+
+        private void refill() throws IOException {
+            output.flush();
+            if (input == null) {
+                input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_BYTES));
+            }
+            while (spilled > 0 && memory.size() < maxInMemory) {
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                memory.offer(serializer.deserialize(bytes));
+                spilled--;
+            }
+            if (spilled == 0) {
+                closeFile();
+            }
+        }
+
+        private void closeFile() {
+            if (file == null) {
+                return;
+            }
+            try {
+                output.close();
+                if (input != null) {
+                    input.close();
+                }
+            } catch (IOException ignored) {
+                // Deleted below
+            }
+            file.delete();
+            file = null;
+            output = null;
+            input = null;
+        }
+    }
+}
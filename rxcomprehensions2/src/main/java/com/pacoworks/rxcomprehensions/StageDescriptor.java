@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.functions.Function;
+
+/**
+ * Immutable description of one stage of a {@link ComprehensionDescriptor}.
+ *
+ * @author pakoito
+ */
+public final class StageDescriptor {
+    private final ComprehensionDescriptor comprehension;
+
+    private final String name;
+
+    private final int index;
+
+    private final ObservableTransformer<Object, Object> describe = new ObservableTransformer<Object, Object>() {
+        @Override
+        public ObservableSource<Object> apply(Observable<Object> upstream) {
+            return upstream.onErrorResumeNext(new Function<Throwable, ObservableSource<Object>>() {
+                @Override
+                public ObservableSource<Object> apply(Throwable throwable) {
+                    return Observable.error(throwable instanceof StageException ? throwable : new StageException(StageDescriptor.this, throwable));
+                }
+            });
+        }
+    };
+
+    StageDescriptor(ComprehensionDescriptor comprehension, String name, int index) {
+        this.comprehension = comprehension;
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * @return comprehension this stage belongs to
+     */
+    public ComprehensionDescriptor comprehension() {
+        return comprehension;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return 1-based position of the stage, matching its number of parameters
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Transformer wrapping errors of its upstream in a {@link StageException} referencing this stage.
+     * Errors already wrapped by an inner stage are passed through unchanged.
+     *
+     * @return describing transformer
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObservableTransformer<T, T> describe() {
+        return (ObservableTransformer<T, T>) (ObservableTransformer<?, ?>) describe;
+    }
+
+    @Override
+    public String toString() {
+        return index + ":" + name;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+/**
+ * Error raised by a stage, wrapped with the {@link StageDescriptor} of the stage by {@link StageDescriptor#describe()}
+ * or by a comprehension given a {@link ComprehensionDescriptor}.
+ * <p>
+ * The message is only built when read, and no stack trace is captured: the stage is identified by {@link #stage()}, and the origin by {@link #getCause()}.
+ *
+ * @author pakoito
+ */
+public final class StageException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient StageDescriptor stage;
+
+    StageException(StageDescriptor stage, Throwable cause) {
+        super(null, cause);
+        this.stage = stage;
+    }
+
+    /**
+     * @return stage that failed
+     */
+    public StageDescriptor stage() {
+        return stage;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Stage " + stage + " of " + stage.comprehension().name() + " failed: " + getCause();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
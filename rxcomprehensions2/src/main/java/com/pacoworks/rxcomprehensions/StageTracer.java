@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Observer;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Cancellable;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Opens a {@link Span} for each subscription to a traced stage, linked to the span of the stage that produced its arguments.
+ * <p>
+ * A stage is traced by composing {@link #trace(String)} onto the {@link Observable} it returns:
+ * <pre>{@code
+ * StageTracer tracer = StageTracer.create(collector);
+ *
+ * RxComprehensions.doFlatMap(
+ *     () -> profileClicks(),
+ *     position -> getUserFromProfile(position).compose(tracer.trace("user")),
+ *     (position, user) -> requestFriendListForUser(position, user.id).compose(tracer.trace("friends"))
+ * );
+ * }</pre>
+ * The span of a stage is current while it subscribes to its upstream and while it emits,
+ * so the next stage of a comprehension, invoked from that emission, becomes its child.
+ * Call {@link #propagateAcrossSchedulers()} once to also carry the current span into work scheduled on any {@link Scheduler},
+ * and {@link #stopPropagatingAcrossSchedulers()} to remove it.
+ *
+ * @author pakoito
+ */
+public final class StageTracer {
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<Span>();
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private static ScheduleHandler scheduleHandler;
+
+    private final SpanCollector collector;
+
+    private StageTracer(SpanCollector collector) {
+        this.collector = collector;
+    }
+
+    /**
+     * Creates a {@link StageTracer} passing every ended {@link Span} to {@code collector}.
+     *
+     * @return new StageTracer
+     */
+    public static StageTracer create(SpanCollector collector) {
+        return new StageTracer(collector);
+    }
+
+    /**
+     * @return span current on this thread, or null
+     */
+    public static Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Installs a {@link RxJavaPlugins#setScheduleHandler(Function)} that restores the span current at scheduling time
+     * while the scheduled work runs, wrapping any handler already installed. Calling it again while installed has no effect.
+     */
+    public static synchronized void propagateAcrossSchedulers() {
+        if (scheduleHandler != null && RxJavaPlugins.getScheduleHandler() == scheduleHandler) {
+            return;
+        }
+        scheduleHandler = new ScheduleHandler(RxJavaPlugins.getScheduleHandler());
+        RxJavaPlugins.setScheduleHandler(scheduleHandler);
+    }
+
+    /**
+     * Removes the handler installed by {@link #propagateAcrossSchedulers()}, restoring the one it wrapped.
+     * A handler set after it, replacing it, is left in place.
+     */
+    public static synchronized void stopPropagatingAcrossSchedulers() {
+        if (scheduleHandler == null) {
+            return;
+        }
+        if (RxJavaPlugins.getScheduleHandler() == scheduleHandler) {
+            RxJavaPlugins.setScheduleHandler(scheduleHandler.previous);
+        }
+        scheduleHandler = null;
+    }
+
+    /**
+     * Transformer opening a span called {@code name} for each subscription to its upstream.
+     *
+     * @return tracing transformer
+     */
+    public <T> ObservableTransformer<T, T> trace(final String name) {
+        return new ObservableTransformer<T, T>() {
+            @Override
+            public ObservableSource<T> apply(final Observable<T> upstream) {
+                return Observable.create(new ObservableOnSubscribe<T>() {
+                    @Override
+                    public void subscribe(ObservableEmitter<T> emitter) {
+                        final Span parent = CURRENT.get();
+                        final Span span = new Span(name, IDS.incrementAndGet(), parent != null ? parent.id() : 0);
+                        final TracingObserver<T> observer = new TracingObserver<T>(span, emitter);
+                        emitter.setCancellable(observer);
+                        CURRENT.set(span);
+                        try {
+                            upstream.subscribe(observer);
+                        } finally {
+                            restore(parent);
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Transformer opening a span named after {@code stage} for each subscription to its upstream.
+     *
+     * @return tracing transformer
+     */
+    public <T> ObservableTransformer<T, T> trace(StageDescriptor stage) {
+        return trace(stage.name());
+    }
+
+    private static void restore(Span previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private final class TracingObserver<T> implements Observer<T>, Cancellable {
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private final AtomicReference<Disposable> upstream = new AtomicReference<Disposable>();
+
+        private final Span span;
+
+        private final ObservableEmitter<T> emitter;
+
+        TracingObserver(Span span, ObservableEmitter<T> emitter) {
+            this.span = span;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (!upstream.compareAndSet(null, d)) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onNext(T value) {
+            final Span previous = CURRENT.get();
+            CURRENT.set(span);
+            try {
+                emitter.onNext(value);
+            } finally {
+                restore(previous);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            end(e);
+            emitter.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            end(null);
+            emitter.onComplete();
+        }
+
+        @Override
+        public void cancel() {
+            end(null);
+            final Disposable d = upstream.getAndSet(Disposables.disposed());
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        private void end(Throwable error) {
+            if (ended.compareAndSet(false, true)) {
+                span.end(error);
+                collector.collect(span);
+            }
+        }
+    }
+
+    private static final class ScheduleHandler implements Function<Runnable, Runnable> {
+        final Function<Runnable, Runnable> previous;
+
+        ScheduleHandler(Function<Runnable, Runnable> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public Runnable apply(Runnable runnable) throws Exception {
+            final Runnable decorated = previous != null ? previous.apply(runnable) : runnable;
+            final Span span = CURRENT.get();
+            return span == null ? decorated : new ContextRunnable(decorated, span);
+        }
+    }
+
+    private static final class ContextRunnable implements Runnable {
+        private final Runnable actual;
+
+        private final Span span;
+
+        ContextRunnable(Runnable actual, Span span) {
+            this.actual = actual;
+            this.span = span;
+        }
+
+        @Override
+        public void run() {
+            final Span previous = CURRENT.get();
+            CURRENT.set(span);
+            try {
+                actual.run();
+            } finally {
+                restore(previous);
+            }
+        }
+    }
+}
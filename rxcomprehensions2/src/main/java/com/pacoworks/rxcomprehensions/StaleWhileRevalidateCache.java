@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.BiConsumer;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Cache for the values of a stage, keyed by its arguments, answering with a stale value while it is refreshed in the background.
+ * <p>
+ * A value younger than {@code fresh} is returned as is. A value older than that, but no older than {@code fresh} plus {@code maxStale},
+ * is returned immediately while a single background refresh is subscribed on the {@link Scheduler}. Missing or older values are loaded
+ * before answering, sharing one load between concurrent callers. Up to {@code maxEntries} values are kept, evicting the least recently used.
+ * <pre>{@code
+ * StaleWhileRevalidateCache<String, Config> configs = StaleWhileRevalidateCache.create(1, 10, TimeUnit.MINUTES, 1000, Schedulers.io());
+ *
+ * RxComprehensions.doFlatMap(
+ *     () -> requests(),
+ *     request -> configs.get(request.tenant, () -> getConfig(request.tenant)),
+ *     (request, config) -> handle(request, config)
+ * );
+ * }</pre>
+ * Only the first value of each load is cached.
+ * <p>
+ * With a {@link DiskStore} as second tier, values missing from memory are read from disk before loading them,
+ * and every loaded value is written to disk, so values survive restarts. Errors reading or writing the disk
+ * are passed to {@link RxJavaPlugins#onError(Throwable)} and treated as a missing value.
+ *
+ * @author pakoito
+ */
+public final class StaleWhileRevalidateCache<K, V> {
+    private final long freshMillis;
+
+    private final long maxStaleMillis;
+
+    private final Scheduler scheduler;
+
+    private final DiskStore<K, V> disk;
+
+    private final Map<K, Cached<V>> entries;
+
+    private final Map<K, Observable<V>> loading = new HashMap<K, Observable<V>>();
+
+    private StaleWhileRevalidateCache(long freshMillis, long maxStaleMillis, final int maxEntries, Scheduler scheduler, DiskStore<K, V> disk) {
+        this.freshMillis = freshMillis;
+        this.maxStaleMillis = maxStaleMillis;
+        this.scheduler = scheduler;
+        this.disk = disk;
+        this.entries = new LinkedHashMap<K, Cached<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Cached<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link StaleWhileRevalidateCache} keeping up to {@code maxEntries} values.
+     *
+     * @return new StaleWhileRevalidateCache
+     */
+    public static <K, V> StaleWhileRevalidateCache<K, V> create(long fresh, long maxStale, TimeUnit unit, int maxEntries, Scheduler scheduler) {
+        return create(fresh, maxStale, unit, maxEntries, scheduler, null);
+    }
+
+    /**
+     * Creates a {@link StaleWhileRevalidateCache} keeping up to {@code maxEntries} values in memory, and every value in {@code disk}.
+     * Ages of values read from {@code disk} are measured against {@link Scheduler#now(TimeUnit)}, so it should follow the wall clock.
+     *
+     * @return new StaleWhileRevalidateCache
+     */
+    public static <K, V> StaleWhileRevalidateCache<K, V> create(long fresh, long maxStale, TimeUnit unit, int maxEntries, Scheduler scheduler, DiskStore<K, V> disk) {
+        if (fresh < 0 || maxStale < 0) {
+            throw new IllegalArgumentException("Expected 0 <= fresh, 0 <= maxStale: " + fresh + ", " + maxStale);
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries <= 0: " + maxEntries);
+        }
+        return new StaleWhileRevalidateCache<K, V>(unit.toMillis(fresh), unit.toMillis(maxStale), maxEntries, scheduler, disk);
+    }
+
+    /**
+     * @return cached value for {@code key}, refreshed in the background when stale, or the first value of {@code loader} when missing or expired
+     */
+    public Observable<V> get(final K key, final Callable<Observable<V>> loader) {
+        return Observable.defer(new Callable<ObservableSource<V>>() {
+            @Override
+            public ObservableSource<V> call() {
+                return lookup(key, loader);
+            }
+        });
+    }
+
+    /**
+     * Removes the value for {@code key} from every tier, so the next {@link #get(Object, Callable)} loads it.
+     */
+    public void invalidate(K key) {
+        synchronized (this) {
+            entries.remove(key);
+        }
+        if (disk != null) {
+            try {
+                disk.remove(key);
+            } catch (IOException e) {
+                RxJavaPlugins.onError(e);
+            }
+        }
+    }
+
+    /**
+     * @return number of values cached
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Observable<V> lookup(K key, Callable<Observable<V>> loader) {
+        final Cached<V> entry = cached(key);
+        final Observable<V> load;
+        synchronized (this) {
+            final long age = entry == null ? Long.MAX_VALUE : scheduler.now(TimeUnit.MILLISECONDS) - entry.loadedAt;
+            if (age <= freshMillis) {
+                return Observable.just(entry.value);
+            }
+            load = load(key, loader);
+            if (age - freshMillis > maxStaleMillis) {
+                return load;
+            }
+        }
+        load.subscribeOn(scheduler).onErrorResumeNext(Observable.<V>empty()).subscribe();
+        return Observable.just(entry.value);
+    }
+
+    private Observable<V> load(final K key, Callable<Observable<V>> loader) {
+        final Observable<V> inFlight = loading.get(key);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        final Observable<V> load = Observable.defer(loader)
+                .firstOrError()
+                .doOnEvent(new BiConsumer<V, Throwable>() {
+                    @Override
+                    public void accept(V value, Throwable throwable) {
+                        loaded(key, value);
+                    }
+                })
+                .toObservable()
+                .cache();
+        loading.put(key, load);
+        return load;
+    }
+
+    private Cached<V> cached(K key) {
+        synchronized (this) {
+            final Cached<V> entry = entries.get(key);
+            if (entry != null || disk == null) {
+                return entry;
+            }
+        }
+        // Read outside the lock, so a slow disk doesn't block lookups of other keys
+        Cached<V> stored = null;
+        try {
+            stored = disk.read(key);
+        } catch (IOException e) {
+            RxJavaPlugins.onError(e);
+        }
+        synchronized (this) {
+            final Cached<V> loaded = entries.get(key);
+            if (loaded != null) {
+                return loaded;
+            }
+            if (stored != null) {
+                entries.put(key, stored);
+            }
+            return stored;
+        }
+    }
+
+    private void loaded(K key, V value) {
+        final long now = scheduler.now(TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            loading.remove(key);
+            if (value != null) {
+                entries.put(key, new Cached<V>(value, now));
+            }
+        }
+        if (disk != null && value != null) {
+            try {
+                disk.write(key, value, now);
+            } catch (IOException e) {
+                RxJavaPlugins.onError(e);
+            }
+        }
+    }
+
+    static final class Cached<V> {
+        final V value;
+
+        final long loadedAt;
+
+        Cached(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public class AdaptiveLimiterTest {
+
+    @Test
+    public void increasesOnFastCompletions() {
+        final AdaptiveLimiter limiter = AdaptiveLimiter.create(1, 1, 10, 1, TimeUnit.MINUTES);
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final PublishSubject<Integer> third = PublishSubject.create();
+        first.compose(limiter.<Integer>isolate()).test();
+        second.compose(limiter.<Integer>isolate()).test();
+        third.compose(limiter.<Integer>isolate()).test();
+        Assert.assertEquals(limiter.queued(), 2);
+        first.onComplete();
+        Assert.assertEquals(limiter.limit(), 2);
+        Assert.assertTrue(second.hasObservers());
+        Assert.assertTrue(third.hasObservers());
+        Assert.assertEquals(limiter.running(), 2);
+    }
+
+    @Test
+    public void decreasesOnErrors() {
+        final AdaptiveLimiter limiter = AdaptiveLimiter.create(10, 2, 10, 1, TimeUnit.MINUTES, 0.5);
+        final TestObserver<Object> observer = Observable.error(new IllegalStateException()).compose(limiter.isolate()).test();
+        observer.assertError(IllegalStateException.class);
+        Assert.assertEquals(limiter.limit(), 5);
+        Observable.error(new IllegalStateException()).compose(limiter.isolate()).test();
+        Observable.error(new IllegalStateException()).compose(limiter.isolate()).test();
+        Assert.assertEquals(limiter.limit(), 2);
+    }
+
+    @Test
+    public void decreasesOnSlowCompletions() {
+        final AdaptiveLimiter limiter = AdaptiveLimiter.create(4, 1, 10, 0, TimeUnit.NANOSECONDS, 0.5);
+        Observable.timer(1, TimeUnit.MILLISECONDS).compose(limiter.<Long>isolate()).test().awaitTerminalEvent();
+        Assert.assertEquals(limiter.limit(), 2);
+    }
+}
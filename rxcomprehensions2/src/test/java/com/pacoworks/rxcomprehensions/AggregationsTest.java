@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+public class AggregationsTest {
+
+    @Test
+    public void reducesCountWindows() {
+        RxComprehensions.doCompose(range(7), Aggregations.reduceEvery(3, zero(), sum())).test().assertResult(6L, 15L, 7L);
+    }
+
+    @Test
+    public void reducesTimeWindows() {
+        final TestScheduler scheduler = new TestScheduler();
+        final PublishSubject<Integer> subject = PublishSubject.create();
+        final TestObserver<Long> observer = subject.compose(Aggregations.reduceEvery(1, TimeUnit.SECONDS, scheduler, zero(), sum())).test();
+        subject.onNext(1);
+        subject.onNext(2);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertValues(3L);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        subject.onNext(5);
+        subject.onComplete();
+        observer.assertResult(3L, 0L, 5L);
+    }
+
+    @Test
+    public void feedsNextStage() {
+        RxComprehensions.doFlatMap(
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return Observable.just(4);
+                    }
+                },
+                new Function<Integer, Observable<Long>>() {
+                    @Override
+                    public Observable<Long> apply(Integer integer) {
+                        return Observable.range(1, integer).compose(Aggregations.reduceEvery(integer, zero(), sum()));
+                    }
+                },
+                new BiFunction<Integer, Long, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(Integer integer, Long total) {
+                        return Observable.just(integer + ":" + total);
+                    }
+                }).test().assertResult("4:10");
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> range(final int count) {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.range(1, count);
+            }
+        };
+    }
+
+    private Callable<Long> zero() {
+        return new Callable<Long>() {
+            @Override
+            public Long call() {
+                return 0L;
+            }
+        };
+    }
+
+    private BiFunction<Long, Integer, Long> sum() {
+        return new BiFunction<Long, Integer, Long>() {
+            @Override
+            public Long apply(Long total, Integer integer) {
+                return total + integer;
+            }
+        };
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+
+public class AsyncFileStagesTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesAndReads() throws IOException {
+        final Path path = new File(folder.getRoot(), "file").toPath();
+        final ByteBuffer data = UTF_8.encode("hello world");
+        final TestObserver<Integer> written = AsyncFileStages.write(path, 0, data).test();
+        written.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        written.assertResult(11);
+        Assert.assertEquals(data.remaining(), 11);
+        final TestObserver<String> read = AsyncFileStages.read(path, 6, 100).map(decode()).test();
+        read.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        read.assertResult("world");
+    }
+
+    @Test
+    public void failsOnMissingFile() {
+        final TestObserver<ByteBuffer> read = AsyncFileStages.read(new File(folder.getRoot(), "missing").toPath(), 0, 10).test();
+        read.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        read.assertError(NoSuchFileException.class);
+    }
+
+    @Test
+    public void chainsAsStages() {
+        final Path path = new File(folder.getRoot(), "stages").toPath();
+        final TestObserver<String> observer = RxComprehensions.doFlatMap(
+                new Callable<Observable<String>>() {
+                    @Override
+                    public Observable<String> call() {
+                        return Observable.just("artefact");
+                    }
+                },
+                new Function<String, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(String s) {
+                        return AsyncFileStages.write(path, 0, UTF_8.encode(s));
+                    }
+                },
+                new BiFunction<String, Integer, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(String s, Integer written) {
+                        return AsyncFileStages.read(path, 0, written).map(decode());
+                    }
+                }).test();
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        observer.assertResult("artefact");
+    }
+
+    @Test
+    public void readsAsFlowable() throws IOException {
+        final Path path = new File(folder.getRoot(), "flowable").toPath();
+        AsyncFileStages.writeFlowable(path, 0, UTF_8.encode("abc")).blockingFirst();
+        Assert.assertEquals(UTF_8.decode(AsyncFileStages.readFlowable(path, 1, 2).blockingFirst()).toString(), "bc");
+    }
+
+    // region Helpers
+
+    private static Function<ByteBuffer, String> decode() {
+        return new Function<ByteBuffer, String>() {
+            @Override
+            public String apply(ByteBuffer buffer) {
+                return UTF_8.decode(buffer).toString();
+            }
+        };
+    }
+
+    // endregion
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+public class BlockingStagesTest {
+
+    @Test
+    public void runsOnScheduler() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(named("blocking-stage"));
+        try {
+            final Scheduler scheduler = Schedulers.from(executor);
+            Assert.assertEquals(RxComprehensions.doFlatMap(zero(2), BlockingStages.stage(scheduler, threadName()), BlockingStages.stage(scheduler, concat())).blockingFirst(), "blocking-stage2");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void errorsArePropagated() {
+        final IllegalStateException error = new IllegalStateException();
+        try {
+            BlockingStages.stage(Schedulers.trampoline(), new Function<Integer, String>() {
+                @Override
+                public String apply(Integer integer) {
+                    throw error;
+                }
+            }).apply(1).blockingFirst();
+            Assert.fail();
+        } catch (Exception e) {
+            Assert.assertSame(error, e);
+        }
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> zero(final int i) {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.just(i);
+            }
+        };
+    }
+
+    private Function<Integer, String> threadName() {
+        return new Function<Integer, String>() {
+            @Override
+            public String apply(Integer integer) {
+                return Thread.currentThread().getName();
+            }
+        };
+    }
+
+    private BiFunction<Integer, String, String> concat() {
+        return new BiFunction<Integer, String, String>() {
+            @Override
+            public String apply(Integer integer, String s) {
+                return s + integer;
+            }
+        };
+    }
+
+    private ThreadFactory named(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, name);
+            }
+        };
+    }
+
+    // endregion
+
+}
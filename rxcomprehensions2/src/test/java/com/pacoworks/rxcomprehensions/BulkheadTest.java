@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public class BulkheadTest {
+
+    @Test
+    public void sharedAcrossComprehensions() {
+        final Bulkhead bulkhead = Bulkhead.create(1);
+        final PublishSubject<String> first = PublishSubject.create();
+        final PublishSubject<String> second = PublishSubject.create();
+        final TestObserver<String> firstObserver = RxComprehensions.doFlatMap(zero(1), isolated(bulkhead, first)).test();
+        final TestObserver<String> secondObserver = RxComprehensions.doFlatMap(zero(2), isolated(bulkhead, second)).test();
+        Assert.assertTrue(first.hasObservers());
+        Assert.assertFalse(second.hasObservers());
+        Assert.assertEquals(bulkhead.running(), 1);
+        Assert.assertEquals(bulkhead.queued(), 1);
+        first.onNext("first");
+        first.onComplete();
+        firstObserver.assertResult("first");
+        Assert.assertTrue(second.hasObservers());
+        Assert.assertEquals(bulkhead.queued(), 0);
+        second.onNext("second");
+        second.onComplete();
+        secondObserver.assertResult("second");
+        Assert.assertEquals(bulkhead.running(), 0);
+    }
+
+    @Test
+    public void rejectsOverQueue() {
+        final Bulkhead bulkhead = Bulkhead.create(1, 0);
+        final PublishSubject<String> first = PublishSubject.create();
+        RxComprehensions.doFlatMap(zero(1), isolated(bulkhead, first)).test();
+        RxComprehensions.doFlatMap(zero(2), isolated(bulkhead, first)).test().assertError(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void disposingReleases() {
+        final Bulkhead bulkhead = Bulkhead.create(1);
+        final PublishSubject<String> first = PublishSubject.create();
+        final PublishSubject<String> second = PublishSubject.create();
+        final PublishSubject<String> third = PublishSubject.create();
+        final TestObserver<String> firstObserver = RxComprehensions.doFlatMap(zero(1), isolated(bulkhead, first)).test();
+        final TestObserver<String> secondObserver = RxComprehensions.doFlatMap(zero(2), isolated(bulkhead, second)).test();
+        RxComprehensions.doFlatMap(zero(3), isolated(bulkhead, third)).test();
+        secondObserver.dispose();
+        Assert.assertEquals(bulkhead.queued(), 1);
+        firstObserver.dispose();
+        Assert.assertFalse(first.hasObservers());
+        Assert.assertFalse(second.hasObservers());
+        Assert.assertTrue(third.hasObservers());
+    }
+
+    @Test
+    public void disposingBeforeStartReleases() {
+        final Bulkhead bulkhead = Bulkhead.create(1);
+        Observable.<String>never().compose(bulkhead.<String>isolate()).test(true);
+        Assert.assertEquals(bulkhead.running(), 0);
+        Observable.just("next").compose(bulkhead.<String>isolate()).test().assertResult("next");
+    }
+
+    @Test
+    public void rejectsOutsideLock() throws InterruptedException {
+        final Bulkhead bulkhead = Bulkhead.create(1, 0);
+        final PublishSubject<String> first = PublishSubject.create();
+        first.compose(bulkhead.<String>isolate()).test();
+        final AtomicInteger queuedFromOtherThread = new AtomicInteger(-1);
+        Observable.just("rejected").compose(bulkhead.<String>isolate()).subscribe(new Consumer<String>() {
+            @Override
+            public void accept(String s) {
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) throws InterruptedException {
+                final Thread other = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        queuedFromOtherThread.set(bulkhead.queued());
+                    }
+                });
+                other.start();
+                other.join(1000);
+            }
+        });
+        Assert.assertEquals(queuedFromOtherThread.get(), 0);
+    }
+
+    @Test
+    public void admitsByPriority() {
+        final Bulkhead bulkhead = Bulkhead.create(1);
+        final PublishSubject<String> running = PublishSubject.create();
+        final PublishSubject<String> batch = PublishSubject.create();
+        final PublishSubject<String> laterBatch = PublishSubject.create();
+        final PublishSubject<String> interactive = PublishSubject.create();
+        running.compose(bulkhead.<String>isolate()).test();
+        batch.compose(bulkhead.<String>isolate(0)).test();
+        laterBatch.compose(bulkhead.<String>isolate(0)).test();
+        interactive.compose(bulkhead.<String>isolate(10)).test();
+        running.onComplete();
+        Assert.assertTrue(interactive.hasObservers());
+        Assert.assertFalse(batch.hasObservers());
+        interactive.onComplete();
+        Assert.assertTrue(batch.hasObservers());
+        Assert.assertFalse(laterBatch.hasObservers());
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> zero(final int i) {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.just(i);
+            }
+        };
+    }
+
+    private Function<Integer, Observable<String>> isolated(final Bulkhead bulkhead, final Observable<String> inner) {
+        return new Function<Integer, Observable<String>>() {
+            @Override
+            public Observable<String> apply(Integer integer) {
+                return inner.compose(bulkhead.<String>isolate());
+            }
+        };
+    }
+
+    // endregion
+
+}
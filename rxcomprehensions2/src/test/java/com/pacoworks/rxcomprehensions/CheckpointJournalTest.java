@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+
+public class CheckpointJournalTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void survivesReopen() throws IOException {
+        final File file = folder.newFile();
+        final CheckpointJournal<String> journal = CheckpointJournal.open(file, strings());
+        journal.complete("a");
+        journal.complete("b");
+        journal.complete("a");
+        journal.close();
+        final CheckpointJournal<String> reopened = CheckpointJournal.open(file, strings());
+        Assert.assertEquals(reopened.size(), 2);
+        Assert.assertTrue(reopened.isCompleted("a"));
+        Assert.assertTrue(reopened.isCompleted("b"));
+        Assert.assertFalse(reopened.isCompleted("c"));
+    }
+
+    @Test
+    public void discardsPartialRecord() throws IOException {
+        final File file = folder.newFile();
+        final CheckpointJournal<String> journal = CheckpointJournal.open(file, strings());
+        journal.complete("a");
+        journal.close();
+        final FileOutputStream output = new FileOutputStream(file, true);
+        try {
+            output.write(new byte[] { 0, 0, 0, 1, 'b' });
+        } finally {
+            output.close();
+        }
+        final CheckpointJournal<String> reopened = CheckpointJournal.open(file, strings());
+        Assert.assertEquals(reopened.size(), 1);
+        reopened.complete("c");
+        reopened.close();
+        final CheckpointJournal<String> recovered = CheckpointJournal.open(file, strings());
+        Assert.assertTrue(recovered.isCompleted("a"));
+        Assert.assertFalse(recovered.isCompleted("b"));
+        Assert.assertTrue(recovered.isCompleted("c"));
+    }
+
+    @Test
+    public void resumesAfterFailure() throws IOException {
+        final File file = folder.newFile();
+        final List<String> processed = new ArrayList<String>();
+        run(CheckpointJournal.open(file, strings()), processed, "c").assertValues("A!", "B!").assertError(IllegalStateException.class);
+        run(CheckpointJournal.open(file, strings()), processed, null).assertResult("C!", "D!");
+        Assert.assertEquals(processed, Arrays.asList("a", "b", "c", "c", "d"));
+    }
+
+    // region Helpers
+
+    private static TestObserver<String> run(CheckpointJournal<String> journal, final List<String> processed, final String failing) {
+        return RxComprehensions.doConcatMapResumable(
+                new Callable<Observable<String>>() {
+                    @Override
+                    public Observable<String> call() {
+                        return Observable.just("a", "b", "c", "d");
+                    }
+                },
+                journal,
+                new Function<String, String>() {
+                    @Override
+                    public String apply(String s) {
+                        return s;
+                    }
+                },
+                new Function<String, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(String s) {
+                        processed.add(s);
+                        return Observable.just(s.toUpperCase());
+                    }
+                },
+                new BiFunction<String, String, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(String s, String upper) {
+                        if (s.equals(failing)) {
+                            return Observable.error(new IllegalStateException());
+                        }
+                        return Observable.just(upper + "!");
+                    }
+                }).test();
+    }
+
+    private static Serializer<String> strings() {
+        return new Serializer<String>() {
+            @Override
+            public byte[] serialize(String value) {
+                return value.getBytes(UTF_8);
+            }
+
+            @Override
+            public String deserialize(byte[] bytes) {
+                return new String(bytes, UTF_8);
+            }
+        };
+    }
+
+    // endregion
+}
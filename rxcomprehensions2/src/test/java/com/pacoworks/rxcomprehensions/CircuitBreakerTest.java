@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void opensOnFailures() {
+        final TestScheduler scheduler = new TestScheduler();
+        final CircuitBreaker breaker = CircuitBreaker.builder(scheduler).window(4).failureRate(0.5).build();
+        Observable.just(1).compose(breaker.<Integer>protect()).test().assertResult(1);
+        Observable.<Integer>error(new IllegalStateException()).compose(breaker.<Integer>protect()).test();
+        Observable.just(1).compose(breaker.<Integer>protect()).test().assertResult(1);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+        Observable.<Integer>error(new IllegalStateException()).compose(breaker.<Integer>protect()).test();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        final PublishSubject<Integer> stage = PublishSubject.create();
+        stage.compose(breaker.<Integer>protect()).test().assertError(CircuitOpenException.class);
+        Assert.assertFalse(stage.hasObservers());
+    }
+
+    @Test
+    public void opensOnSlowCalls() {
+        final TestScheduler scheduler = new TestScheduler();
+        final CircuitBreaker breaker = CircuitBreaker.builder(scheduler).window(2).slowCallRate(0.5, 1, TimeUnit.SECONDS).build();
+        Observable.just(1).delay(2, TimeUnit.SECONDS, scheduler).compose(breaker.<Integer>protect()).test();
+        Observable.just(1).compose(breaker.<Integer>protect()).test();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void closesAfterProbes() {
+        final TestScheduler scheduler = new TestScheduler();
+        final CircuitBreaker breaker = open(scheduler);
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.HALF_OPEN);
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        first.compose(breaker.<Integer>protect()).test();
+        final TestObserver<Integer> disposed = second.compose(breaker.<Integer>protect()).test();
+        Observable.just(1).compose(breaker.<Integer>protect()).test().assertError(CircuitOpenException.class);
+        disposed.dispose();
+        second.compose(breaker.<Integer>protect()).test();
+        first.onComplete();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.HALF_OPEN);
+        second.onComplete();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+        Observable.just(1).compose(breaker.<Integer>protect()).test().assertResult(1);
+    }
+
+    @Test
+    public void reopensOnFailedProbe() {
+        final TestScheduler scheduler = new TestScheduler();
+        final CircuitBreaker breaker = open(scheduler);
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        Observable.<Integer>error(new IllegalStateException()).compose(breaker.<Integer>protect()).test();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        scheduler.advanceTimeBy(9, TimeUnit.SECONDS);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void reopensOnStuckProbe() {
+        final TestScheduler scheduler = new TestScheduler();
+        final CircuitBreaker breaker = open(scheduler);
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        final PublishSubject<Integer> stuck = PublishSubject.create();
+        stuck.compose(breaker.<Integer>protect()).test();
+        Observable.just(1).compose(breaker.<Integer>protect()).test().assertResult(1);
+        scheduler.advanceTimeBy(4, TimeUnit.SECONDS);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.HALF_OPEN);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        stuck.onComplete();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    public void closesWithLowTraffic() {
+        final TestScheduler scheduler = new TestScheduler();
+        final CircuitBreaker breaker = CircuitBreaker.builder(scheduler).window(1).openFor(10, TimeUnit.SECONDS).build();
+        Observable.<Integer>error(new IllegalStateException()).compose(breaker.<Integer>protect()).test();
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(breaker.state(), CircuitBreaker.State.HALF_OPEN);
+            Observable.just(i).compose(breaker.<Integer>protect()).test().assertResult(i);
+            scheduler.advanceTimeBy(20, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+    }
+
+    // region Helpers
+
+    private static CircuitBreaker open(TestScheduler scheduler) {
+        final CircuitBreaker breaker = CircuitBreaker.builder(scheduler).window(1).openFor(10, TimeUnit.SECONDS).halfOpenCalls(2).probeTimeout(5, TimeUnit.SECONDS).build();
+        Observable.<Integer>error(new IllegalStateException()).compose(breaker.<Integer>protect()).test();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    // endregion
+}
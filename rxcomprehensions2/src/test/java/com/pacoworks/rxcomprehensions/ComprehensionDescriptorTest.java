@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+
+public class ComprehensionDescriptorTest {
+    private static final ComprehensionDescriptor DESCRIPTOR = ComprehensionDescriptor.builder("checkout")
+            .stage("user")
+            .stage("payment")
+            .build();
+
+    @Test
+    public void describesShape() {
+        Assert.assertEquals(DESCRIPTOR.stages().size(), 2);
+        Assert.assertEquals(DESCRIPTOR.stage(1).name(), "user");
+        Assert.assertEquals(DESCRIPTOR.stage(2).index(), 2);
+        Assert.assertSame(DESCRIPTOR.stage(2).comprehension(), DESCRIPTOR);
+        Assert.assertEquals(DESCRIPTOR.toString(), "checkout[1:user, 2:payment]");
+    }
+
+    @Test
+    public void wrapsStageErrors() {
+        final IllegalStateException error = new IllegalStateException("declined");
+        final TestObserver<Integer> observer = RxComprehensions.doFlatMap(zero(), described(1), failing(2, error)).test();
+        observer.assertError(StageException.class);
+        final StageException exception = (StageException) observer.errors().get(0);
+        Assert.assertSame(exception.stage(), DESCRIPTOR.stage(2));
+        Assert.assertSame(exception.getCause(), error);
+        Assert.assertEquals(exception.getMessage(), "Stage 2:payment of checkout failed: java.lang.IllegalStateException: declined");
+    }
+
+    @Test
+    public void buildsMessageWhenRead() {
+        final AtomicInteger descriptions = new AtomicInteger();
+        final IllegalStateException error = new IllegalStateException() {
+            @Override
+            public String toString() {
+                descriptions.incrementAndGet();
+                return "declined";
+            }
+        };
+        final StageException exception = new StageException(DESCRIPTOR.stage(1), error);
+        Assert.assertEquals(descriptions.get(), 0);
+        Assert.assertEquals(exception.getMessage(), "Stage 1:user of checkout failed: declined");
+        Assert.assertEquals(descriptions.get(), 1);
+    }
+
+    @Test
+    public void describesStagesOfComprehension() {
+        final IllegalStateException error = new IllegalStateException("declined");
+        final TestObserver<Integer> observer = RxComprehensions.doConcatMap(DESCRIPTOR, zero(), plain(), new BiFunction<Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2) throws Exception {
+                throw error;
+            }
+        }).test();
+        observer.assertError(StageException.class);
+        final StageException exception = (StageException) observer.errors().get(0);
+        Assert.assertEquals(exception.stage().name(), "payment");
+        Assert.assertEquals(exception.stage().comprehension().operator(), ComprehensionDescriptor.Operator.CONCAT_MAP);
+        Assert.assertEquals(exception.stage().comprehension().toString(), "checkout(concatMap)[1:user, 2:payment]");
+        Assert.assertSame(exception.getCause(), error);
+        Assert.assertNull(DESCRIPTOR.operator());
+    }
+
+    @Test
+    public void passesUpstreamErrorsThroughComposedStages() {
+        final IllegalStateException error = new IllegalStateException("declined");
+        RxComprehensions.doCompose(DESCRIPTOR, new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.error(error);
+            }
+        }, identity(), identity()).test().assertError(error);
+        final TestObserver<Integer> observer = RxComprehensions.doCompose(DESCRIPTOR, zero(), identity(), new ObservableTransformer<Integer, Integer>() {
+            @Override
+            public ObservableSource<Integer> apply(Observable<Integer> upstream) {
+                return upstream.concatWith(Observable.<Integer>error(error));
+            }
+        }).test();
+        observer.assertValue(1).assertError(StageException.class);
+        Assert.assertEquals(((StageException) observer.errors().get(0)).stage().index(), 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMismatchedStages() {
+        RxComprehensions.doFlatMap(DESCRIPTOR, zero(), plain());
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> zero() {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.just(1);
+            }
+        };
+    }
+
+    private Function<Integer, Observable<Integer>> plain() {
+        return new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return Observable.just(integer);
+            }
+        };
+    }
+
+    private ObservableTransformer<Integer, Integer> identity() {
+        return new ObservableTransformer<Integer, Integer>() {
+            @Override
+            public ObservableSource<Integer> apply(Observable<Integer> upstream) {
+                return upstream;
+            }
+        };
+    }
+
+    private Function<Integer, Observable<Integer>> described(final int stage) {
+        return new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return Observable.just(integer).compose(DESCRIPTOR.stage(stage).<Integer>describe());
+            }
+        };
+    }
+
+    private BiFunction<Integer, Integer, Observable<Integer>> failing(final int stage, final Throwable error) {
+        return new BiFunction<Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2) {
+                return Observable.<Integer>error(error).compose(DESCRIPTOR.stage(stage).<Integer>describe());
+            }
+        };
+    }
+
+    // endregion
+
+}
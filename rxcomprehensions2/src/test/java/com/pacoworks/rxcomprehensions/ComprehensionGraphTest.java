@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+import com.pacoworks.rxcomprehensions.ComprehensionGraph.Node;
+
+public class ComprehensionGraphTest {
+    @Test
+    public void runsByDepth() {
+        final TestScheduler scheduler = new TestScheduler();
+        final ComprehensionGraph.Builder<Integer> builder = ComprehensionGraph.builder();
+        final Node<Integer> root = builder.root();
+        final Node<Integer> left = builder.stage(root, plus(1, scheduler));
+        final Node<Integer> middle = builder.stage(root, plus(2, scheduler));
+        final Node<Integer> right = builder.stage(root, plus(3, scheduler));
+        final Node<Integer> sum = builder.stage(left, middle, right, sum(scheduler));
+        final TestObserver<Integer> observer = Observable.just(10).compose(builder.build(sum)).test();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertNoValues();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertResult(11 + 12 + 13);
+    }
+
+    @Test
+    public void sharesStages() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ComprehensionGraph.Builder<Integer> builder = ComprehensionGraph.builder();
+        final Node<Integer> root = builder.root();
+        final Node<Integer> shared = builder.stage(root, new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                calls.incrementAndGet();
+                return Observable.just(integer * 2);
+            }
+        });
+        final Node<Integer> first = builder.stage(shared, plus(1, null));
+        final Node<Integer> second = builder.stage(root, shared, add());
+        final ComprehensionGraph<Integer, Integer> graph = builder.build(builder.stage(shared, first, second, sum(null)));
+        Assert.assertEquals(4, graph.stages());
+        RxComprehensions.doCompose(zero(1, 2, 3), graph).test().assertResult(2 + 3 + 3, 4 + 5 + 6, 6 + 7 + 9);
+        Assert.assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void skipsUnreachableStages() {
+        final PublishSubject<Integer> unused = PublishSubject.create();
+        final ComprehensionGraph.Builder<Integer> builder = ComprehensionGraph.builder();
+        final Node<Integer> root = builder.root();
+        builder.stage(root, new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return unused;
+            }
+        });
+        final ComprehensionGraph<Integer, Integer> graph = builder.build(builder.stage(root, plus(1, null)));
+        Assert.assertEquals(1, graph.stages());
+        Observable.just(1).compose(graph).test().assertResult(2);
+        Assert.assertFalse(unused.hasObservers());
+    }
+
+    @Test
+    public void disposesSharedStages() {
+        final PublishSubject<Integer> slow = PublishSubject.create();
+        final ComprehensionGraph.Builder<Integer> builder = ComprehensionGraph.builder();
+        final Node<Integer> root = builder.root();
+        final Node<Integer> shared = builder.stage(root, new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return slow;
+            }
+        });
+        final ComprehensionGraph<Integer, Integer> graph = builder.build(builder.stage(shared, shared, add()));
+        final TestObserver<Integer> observer = Observable.just(1).compose(graph).test();
+        Assert.assertTrue(slow.hasObservers());
+        observer.dispose();
+        Assert.assertFalse(slow.hasObservers());
+    }
+
+    @Test
+    public void disposesSharedStagesOnError() {
+        final PublishSubject<Integer> slow = PublishSubject.create();
+        final ComprehensionGraph.Builder<Integer> builder = ComprehensionGraph.builder();
+        final Node<Integer> root = builder.root();
+        final Node<Integer> shared = builder.stage(root, new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return slow;
+            }
+        });
+        final Node<Integer> first = builder.stage(shared, plus(1, null));
+        final Node<Integer> second = builder.stage(shared, plus(2, null));
+        final Node<Integer> failing = builder.stage(root, new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return Observable.error(new IllegalStateException());
+            }
+        });
+        final ComprehensionGraph<Integer, Integer> graph = builder.build(builder.stage(first, second, failing, sum(null)));
+        Observable.just(1).compose(graph).test().assertError(IllegalStateException.class);
+        Assert.assertFalse(slow.hasObservers());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsForeignNodes() {
+        final ComprehensionGraph.Builder<Integer> builder = ComprehensionGraph.builder();
+        ComprehensionGraph.<Integer>builder().stage(builder.root(), plus(1, null));
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> zero(final Integer... values) {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.fromArray(values);
+            }
+        };
+    }
+
+    private Function<Integer, Observable<Integer>> plus(final int value, final TestScheduler scheduler) {
+        return new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return delay(Observable.just(integer + value), scheduler);
+            }
+        };
+    }
+
+    private BiFunction<Integer, Integer, Observable<Integer>> add() {
+        return new BiFunction<Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2) {
+                return Observable.just(integer + integer2);
+            }
+        };
+    }
+
+    private Function3<Integer, Integer, Integer, Observable<Integer>> sum(final TestScheduler scheduler) {
+        return new Function3<Integer, Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2, Integer integer3) {
+                return delay(Observable.just(integer + integer2 + integer3), scheduler);
+            }
+        };
+    }
+
+    private static Observable<Integer> delay(Observable<Integer> observable, TestScheduler scheduler) {
+        return scheduler == null ? observable : observable.delay(1, TimeUnit.SECONDS, scheduler);
+    }
+
+    // endregion
+}
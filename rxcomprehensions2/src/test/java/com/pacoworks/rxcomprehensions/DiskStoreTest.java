@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.schedulers.TestScheduler;
+
+public class DiskStoreTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void survivesReopen() throws IOException {
+        final File directory = folder.newFolder();
+        final DiskStore<String, String> store = open(directory, 1024, 256);
+        store.put("a", "first");
+        store.put("b", "second");
+        store.put("a", "third");
+        store.put("c", "fourth");
+        store.remove("c");
+        store.close();
+        final DiskStore<String, String> reopened = open(directory, 1024, 256);
+        Assert.assertEquals(reopened.size(), 2);
+        Assert.assertEquals(reopened.get("a"), "third");
+        Assert.assertEquals(reopened.get("b"), "second");
+        Assert.assertNull(reopened.get("c"));
+    }
+
+    @Test
+    public void evictsOldestSegment() throws IOException {
+        final DiskStore<String, String> store = open(folder.newFolder(), 128, 64);
+        for (int i = 0; i < 10; i++) {
+            store.put("key" + i, "value" + i);
+        }
+        Assert.assertTrue(store.bytes() <= 128);
+        Assert.assertNull(store.get("key0"));
+        Assert.assertEquals(store.get("key9"), "value9");
+    }
+
+    @Test
+    public void ignoresPartialRecord() throws IOException {
+        final File directory = folder.newFolder();
+        final DiskStore<String, String> store = open(directory, 1024, 256);
+        store.put("a", "first");
+        store.close();
+        final File[] segments = directory.listFiles();
+        Assert.assertEquals(segments.length, 1);
+        final RandomAccessFile file = new RandomAccessFile(segments[0], "rw");
+        try {
+            file.seek(16 + 1 + 5);
+            file.writeInt(3);
+            file.writeInt(1000);
+        } finally {
+            file.close();
+        }
+        final DiskStore<String, String> reopened = open(directory, 1024, 256);
+        Assert.assertEquals(reopened.size(), 1);
+        reopened.put("b", "second");
+        reopened.close();
+        final DiskStore<String, String> recovered = open(directory, 1024, 256);
+        Assert.assertEquals(recovered.get("a"), "first");
+        Assert.assertEquals(recovered.get("b"), "second");
+    }
+
+    @Test
+    public void discardsTornRecordBytes() throws IOException {
+        final File directory = folder.newFolder();
+        final DiskStore<String, String> store = open(directory, 1024, 256);
+        store.put("a", "first");
+        store.close();
+        final File[] segments = directory.listFiles();
+        final RandomAccessFile file = new RandomAccessFile(segments[0], "rw");
+        try {
+            // A long record torn before its key length was written, whose payload looks like a record after "b"
+            final int torn = 16 + 1 + 5;
+            file.seek(torn + 4);
+            file.writeInt(100);
+            file.seek(torn + 16 + 1 + 6);
+            file.writeInt(1);
+            file.writeInt(5);
+            file.writeLong(0);
+            file.write("zghost".getBytes(UTF_8));
+        } finally {
+            file.close();
+        }
+        final DiskStore<String, String> reopened = open(directory, 1024, 256);
+        Assert.assertEquals(reopened.size(), 1);
+        reopened.put("b", "second");
+        reopened.close();
+        final DiskStore<String, String> recovered = open(directory, 1024, 256);
+        Assert.assertEquals(recovered.size(), 2);
+        Assert.assertNull(recovered.get("z"));
+    }
+
+    @Test
+    public void rejectsEmptyKeys() throws IOException {
+        final File directory = folder.newFolder();
+        final DiskStore<String, String> store = open(directory, 1024, 256);
+        try {
+            store.put("", "empty");
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+            // Not stored
+        }
+        store.put("a", "first");
+        store.close();
+        Assert.assertEquals(open(directory, 1024, 256).get("a"), "first");
+    }
+
+    @Test
+    public void backsCache() throws IOException {
+        final File directory = folder.newFolder();
+        final AtomicInteger loads = new AtomicInteger();
+        final Callable<Observable<String>> loader = new Callable<Observable<String>>() {
+            @Override
+            public Observable<String> call() {
+                return Observable.just("value" + loads.incrementAndGet());
+            }
+        };
+        final DiskStore<String, String> store = open(directory, 1024, 256);
+        StaleWhileRevalidateCache.create(1, 1, TimeUnit.SECONDS, 10, new TestScheduler(), store).get("key", loader).test().assertResult("value1");
+        store.close();
+        final DiskStore<String, String> reopened = open(directory, 1024, 256);
+        StaleWhileRevalidateCache.create(1, 1, TimeUnit.SECONDS, 10, new TestScheduler(), reopened).get("key", loader).test().assertResult("value1");
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void readsOutsideCacheLock() throws Exception {
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final DiskStore<String, String> store = DiskStore.open(folder.newFolder(), strings(), new Serializer<String>() {
+            @Override
+            public byte[] serialize(String value) {
+                return value.getBytes(UTF_8);
+            }
+
+            @Override
+            public String deserialize(byte[] bytes) throws IOException {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return new String(bytes, UTF_8);
+            }
+        }, 1024, 256);
+        store.put("slow", "stored");
+        final StaleWhileRevalidateCache<String, String> cache = StaleWhileRevalidateCache.create(1, 1, TimeUnit.DAYS, 10, new TestScheduler(), store);
+        final Callable<Observable<String>> loader = new Callable<Observable<String>>() {
+            @Override
+            public Observable<String> call() {
+                return Observable.just("loaded");
+            }
+        };
+        final Thread slow = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                cache.get("slow", loader).blockingFirst();
+            }
+        });
+        final AtomicReference<String> other = new AtomicReference<String>();
+        final Thread fast = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other.set(cache.get("other", loader).blockingFirst());
+            }
+        });
+        try {
+            slow.start();
+            Assert.assertTrue(reading.await(1, TimeUnit.SECONDS));
+            fast.start();
+            fast.join(1000);
+            Assert.assertEquals(other.get(), "loaded");
+        } finally {
+            release.countDown();
+        }
+        slow.join(1000);
+        cache.get("slow", loader).test().assertResult("stored");
+    }
+
+    // region Helpers
+
+    private static DiskStore<String, String> open(File directory, long maxBytes, int segmentBytes) throws IOException {
+        return DiskStore.open(directory, strings(), strings(), maxBytes, segmentBytes);
+    }
+
+    private static Serializer<String> strings() {
+        return new Serializer<String>() {
+            @Override
+            public byte[] serialize(String value) {
+                return value.getBytes(UTF_8);
+            }
+
+            @Override
+            public String deserialize(byte[] bytes) {
+                return new String(bytes, UTF_8);
+            }
+        };
+    }
+
+    // endregion
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+import io.reactivex.functions.Function9;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class FlowableComprehensionsTest {
+
+    @Test
+    public void oneFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(1), one(true)).blockingFirst(), true);
+    }
+
+    @Test
+    public void twoFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(2), one(true), two("result")).blockingFirst(), "result");
+    }
+
+    @Test
+    public void threeFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(3), one(true), two("result"), three("other")).blockingFirst(), "other");
+    }
+
+    @Test
+    public void fourFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(4), one(true), two("result"), three("other"), four("other".length())).blockingFirst(), new Long("other".length()));
+    }
+
+    @Test
+    public void fiveFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5)).blockingFirst(), false);
+    }
+
+    @Test
+    public void sixFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false))).blockingFirst(), "false");
+    }
+
+    @Test
+    public void sevenFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true")).blockingFirst(), false);
+    }
+
+    @Test
+    public void eightFM() {
+        Assert.assertEquals(FlowableComprehensions.doFlatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class)).blockingFirst(), Long.class);
+    }
+
+    @Test
+    public void nineFM() {
+        final TestSubscriber<Object> subscriber = TestSubscriber.create();
+        FlowableComprehensions.doFlatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertComplete();
+        subscriber.assertNoErrors();
+        subscriber.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void oneCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(1), one(true)).blockingFirst(), true);
+    }
+
+    @Test
+    public void twoCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(2), one(true), two("result")).blockingFirst(), "result");
+    }
+
+    @Test
+    public void threeCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(3), one(true), two("result"), three("other")).blockingFirst(), "other");
+    }
+
+    @Test
+    public void fourCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(4), one(true), two("result"), three("other"), four("other".length())).blockingFirst(), new Long("other".length()));
+    }
+
+    @Test
+    public void fiveCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5)).blockingFirst(), false);
+    }
+
+    @Test
+    public void sixCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false))).blockingFirst(), "false");
+    }
+
+    @Test
+    public void sevenCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true")).blockingFirst(), false);
+    }
+
+    @Test
+    public void eightCM() {
+        Assert.assertEquals(FlowableComprehensions.doConcatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class)).blockingFirst(), Long.class);
+    }
+
+    @Test
+    public void nineCM() {
+        final TestSubscriber<Object> subscriber = TestSubscriber.create();
+        FlowableComprehensions.doConcatMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertComplete();
+        subscriber.assertNoErrors();
+        subscriber.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void oneSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(1), one(true)).blockingFirst(), true);
+    }
+
+    @Test
+    public void twoSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(2), one(true), two("result")).blockingFirst(), "result");
+    }
+
+    @Test
+    public void threeSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(3), one(true), two("result"), three("other")).blockingFirst(), "other");
+    }
+
+    @Test
+    public void fourSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(4), one(true), two("result"), three("other"), four("other".length())).blockingFirst(), new Long("other".length()));
+    }
+
+    @Test
+    public void fiveSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5)).blockingFirst(), false);
+    }
+
+    @Test
+    public void sixSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false))).blockingFirst(), "false");
+    }
+
+    @Test
+    public void sevenSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true")).blockingFirst(), false);
+    }
+
+    @Test
+    public void eightSM() {
+        Assert.assertEquals(FlowableComprehensions.doSwitchMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class)).blockingFirst(), Long.class);
+    }
+
+    @Test
+    public void nineSM() {
+        final TestSubscriber<Object> subscriber = TestSubscriber.create();
+        FlowableComprehensions.doSwitchMap(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertComplete();
+        subscriber.assertNoErrors();
+        subscriber.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void oneCo() {
+        Assert.assertEquals((FlowableComprehensions.doCompose(zero(0), intIncrementToString()).blockingFirst()), "1");
+    }
+
+    @Test
+    public void twoCo() {
+        Assert.assertEquals((long)FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt()).blockingFirst(), 1);
+    }
+
+    @Test
+    public void threeCo() {
+        Assert.assertEquals((FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString()).blockingFirst()), "2");
+    }
+
+    @Test
+    public void fourCo() {
+        Assert.assertEquals((long)FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt()).blockingFirst(), 2);
+    }
+
+    @Test
+    public void fiveCo() {
+        Assert.assertEquals((FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString()).blockingFirst()), "3");
+    }
+
+    @Test
+    public void sixCo() {
+        Assert.assertEquals((long)FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt()).blockingFirst(), 3);
+    }
+
+    @Test
+    public void sevenCo() {
+        Assert.assertEquals((FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString()).blockingFirst()), "4");
+    }
+
+    @Test
+    public void eightCo() {
+        Assert.assertEquals((long)FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt()).blockingFirst(), 4);
+    }
+
+    @Test
+    public void nineCo() {
+        Assert.assertEquals((FlowableComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString()).blockingFirst()), "5");
+    }
+
+    @Test
+    public void backpressureFM() {
+        final TestSubscriber<Integer> subscriber = TestSubscriber.create(2);
+        FlowableComprehensions.doFlatMap(range(100), increment(), sum()).subscribe(subscriber);
+        subscriber.assertValues(1, 3);
+        subscriber.assertNotComplete();
+        subscriber.request(1);
+        subscriber.assertValues(1, 3, 5);
+    }
+
+    @Test
+    public void compiledFM() {
+        final FlowableTransformer<Integer, String> compiled = FlowableComprehensions.compileFlatMap(one(true), two("result"));
+        Assert.assertEquals(Flowable.just(1).compose(compiled).blockingFirst(), "result");
+        Assert.assertEquals(Flowable.just(2).compose(compiled).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineCompiledFM() {
+        final TestSubscriber<Object> subscriber = TestSubscriber.create();
+        Flowable.just(1).compose(FlowableComprehensions.compileFlatMap(one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine())).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void compiledCM() {
+        final FlowableTransformer<Integer, String> compiled = FlowableComprehensions.compileConcatMap(one(true), two("result"));
+        Assert.assertEquals(Flowable.just(1).compose(compiled).blockingFirst(), "result");
+        Assert.assertEquals(Flowable.just(2).compose(compiled).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineCompiledCM() {
+        final TestSubscriber<Object> subscriber = TestSubscriber.create();
+        Flowable.just(1).compose(FlowableComprehensions.compileConcatMap(one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine())).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void compiledSM() {
+        final FlowableTransformer<Integer, String> compiled = FlowableComprehensions.compileSwitchMap(one(true), two("result"));
+        Assert.assertEquals(Flowable.just(1).compose(compiled).blockingFirst(), "result");
+        Assert.assertEquals(Flowable.just(2).compose(compiled).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineCompiledSM() {
+        final TestSubscriber<Object> subscriber = TestSubscriber.create();
+        Flowable.just(1).compose(FlowableComprehensions.compileSwitchMap(one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine())).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void compiledCo() {
+        final FlowableTransformer<Integer, String> compiled = FlowableComprehensions.compileCompose(intIncrementToString(), stringToInt(), intIncrementToString());
+        Assert.assertEquals(Flowable.just(0).compose(compiled).blockingFirst(), "2");
+        Assert.assertEquals(Flowable.just(5).compose(compiled).blockingFirst(), "7");
+    }
+
+    // region Helpers
+
+    private Callable<Publisher<Integer>> zero(final int i) {
+        return new Callable<Publisher<Integer>>() {
+            @Override
+            public Publisher<Integer> call() {
+                return Flowable.just(i);
+            }
+        };
+    }
+
+    private Callable<Publisher<Integer>> range(final int count) {
+        return new Callable<Publisher<Integer>>() {
+            @Override
+            public Publisher<Integer> call() {
+                return Flowable.range(0, count);
+            }
+        };
+    }
+
+    private Function<Integer, Publisher<Integer>> increment() {
+        return new Function<Integer, Publisher<Integer>>() {
+            @Override
+            public Publisher<Integer> apply(Integer integer) {
+                return Flowable.just(integer + 1);
+            }
+        };
+    }
+
+    private BiFunction<Integer, Integer, Publisher<Integer>> sum() {
+        return new BiFunction<Integer, Integer, Publisher<Integer>>() {
+            @Override
+            public Publisher<Integer> apply(Integer integer, Integer integer2) {
+                return Flowable.just(integer + integer2);
+            }
+        };
+    }
+
+    private Function<Integer, Publisher<Boolean>> one(final boolean value) {
+        return new Function<Integer, Publisher<Boolean>>() {
+            @Override
+            public Publisher<Boolean> apply(Integer integer) {
+                return Flowable.just(value);
+            }
+        };
+    }
+
+    private BiFunction<Integer, Boolean, Publisher<String>> two(final String value) {
+        return new BiFunction<Integer, Boolean, Publisher<String>>() {
+            @Override
+            public Publisher<String> apply(Integer integer, Boolean aBoolean) {
+                return Flowable.just(value);
+            }
+        };
+    }
+
+    private Function3<Integer, Boolean, String, Publisher<String>> three(final String other) {
+        return new Function3<Integer, Boolean, String, Publisher<String>>() {
+            @Override
+            public Publisher<String> apply(Integer integer, Boolean aBoolean, String s) {
+                return Flowable.just(other);
+            }
+        };
+    }
+
+    private Function4<Integer, Boolean, String, String, Publisher<Long>> four(final long length) {
+        return new Function4<Integer, Boolean, String, String, Publisher<Long>>() {
+            @Override
+            public Publisher<Long> apply(Integer integer, Boolean aBoolean, String s, String s2) {
+                return Flowable.just(length);
+            }
+        };
+    }
+
+    private Function5<Integer, Boolean, String, String, Long, Publisher<Boolean>> five(final boolean b) {
+        return new Function5<Integer, Boolean, String, String, Long, Publisher<Boolean>>() {
+            @Override
+            public Publisher<Boolean> apply(Integer integer, Boolean aBoolean, String s, String s2, Long aLong) {
+                return Flowable.just(b);
+            }
+        };
+    }
+
+    private Function6<Integer, Boolean, String, String, Long, Boolean, Publisher<String>> six(final String string) {
+        return new Function6<Integer, Boolean, String, String, Long, Boolean, Publisher<String>>() {
+            @Override
+            public Publisher<String> apply(Integer integer, Boolean aBoolean, String s, String s2, Long aLong, Boolean aBoolean2) {
+                return Flowable.just(string);
+            }
+        };
+    }
+
+    private Function7<Integer, Boolean, String, String, Long, Boolean, String, Publisher<Boolean>> seven(final String parameter) {
+        return new Function7<Integer, Boolean, String, String, Long, Boolean, String, Publisher<Boolean>>() {
+            @Override
+            public Publisher<Boolean> apply(Integer integer, Boolean aBoolean, String s, String s2, Long aLong, Boolean aBoolean2, String s3) {
+                return Flowable.just(!Boolean.valueOf(parameter));
+            }
+        };
+    }
+
+    private <T> Function8<Integer, Boolean, String, String, Long, Boolean, String, Boolean, Publisher<Class<T>>> eight(final Class<T> item) {
+        return new Function8<Integer, Boolean, String, String, Long, Boolean, String, Boolean, Publisher<Class<T>>>() {
+            @Override
+            public Publisher<Class<T>> apply(Integer integer, Boolean aBoolean, String s, String s2, Long aLong, Boolean aBoolean2, String s3, Boolean aBoolean3) {
+                return Flowable.just(item);
+            }
+        };
+    }
+
+    private <T> Function9<Integer, Boolean, String, String, Long, Boolean, String, Boolean, Class<T>, Publisher<Object>> nine() {
+        return new Function9<Integer, Boolean, String, String, Long, Boolean, String, Boolean, Class<T>, Publisher<Object>>() {
+            @Override
+            public Publisher<Object> apply(Integer integer, Boolean aBoolean, String s, String s2, Long aLong, Boolean aBoolean2, String s3, Boolean aBoolean3, Class<T> clazz) {
+                return Flowable.<Object>just(integer, aBoolean, s, s2, aLong, aBoolean2, s3, aBoolean3, clazz);
+            }
+        };
+    }
+
+    private FlowableTransformer<Integer, String> intIncrementToString() {
+        return new FlowableTransformer<Integer, String>() {
+            @Override
+            public Publisher<String> apply(Flowable<Integer> upstream) {
+                return upstream.map(new Function<Integer, String>() {
+                    @Override
+                    public String apply(Integer integer) {
+                        return Integer.toString(integer + 1);
+                    }
+                });
+            }
+        };
+    }
+
+    private FlowableTransformer<String, Integer> stringToInt() {
+        return new FlowableTransformer<String, Integer>() {
+            @Override
+            public Publisher<Integer> apply(Flowable<String> upstream) {
+                return upstream.map(new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String s) {
+                        return Integer.parseInt(s);
+                    }
+                });
+            }
+        };
+    }
+
+    // endregion
+
+}
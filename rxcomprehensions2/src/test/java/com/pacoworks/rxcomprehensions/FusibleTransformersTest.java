@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public class FusibleTransformersTest {
+
+    @Test
+    public void fusesAdjacentStages() {
+        final Observable<Integer> composed = RxComprehensions.doCompose(range(), FusibleTransformers.map(increment()), FusibleTransformers.filter(even()), FusibleTransformers.scan(sum()));
+        Assert.assertTrue(composed instanceof FusedObservable);
+        Assert.assertEquals(((FusedObservable<Integer>) composed).size(), 3);
+        composed.test().assertResult(2, 6, 12);
+    }
+
+    @Test
+    public void stopsAtOtherTransformers() {
+        final Observable<Integer> composed = RxComprehensions.doCompose(range(), FusibleTransformers.map(increment()), identity(), FusibleTransformers.filter(even()), FusibleTransformers.map(increment()));
+        Assert.assertEquals(((FusedObservable<Integer>) composed).size(), 2);
+        composed.test().assertResult(3, 5, 7);
+    }
+
+    @Test
+    public void scanStateIsPerSubscription() {
+        final Observable<Integer> composed = RxComprehensions.doCompose(range(), FusibleTransformers.scan(sum()));
+        composed.test().assertResult(1, 3, 6, 10, 15, 21);
+        composed.test().assertResult(1, 3, 6, 10, 15, 21);
+    }
+
+    @Test
+    public void errorsDisposeUpstream() {
+        final PublishSubject<Integer> subject = PublishSubject.create();
+        final IllegalStateException error = new IllegalStateException();
+        final TestObserver<Integer> observer = subject.compose(FusibleTransformers.map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer integer) {
+                throw error;
+            }
+        })).test();
+        subject.onNext(1);
+        observer.assertError(error);
+        Assert.assertFalse(subject.hasObservers());
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> range() {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.range(1, 6);
+            }
+        };
+    }
+
+    private Function<Integer, Integer> increment() {
+        return new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer integer) {
+                return integer + 1;
+            }
+        };
+    }
+
+    private Predicate<Integer> even() {
+        return new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer integer) {
+                return integer % 2 == 0;
+            }
+        };
+    }
+
+    private BiFunction<Integer, Integer, Integer> sum() {
+        return new BiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer integer, Integer integer2) {
+                return integer + integer2;
+            }
+        };
+    }
+
+    private ObservableTransformer<Integer, Integer> identity() {
+        return new ObservableTransformer<Integer, Integer>() {
+            @Override
+            public ObservableSource<Integer> apply(Observable<Integer> upstream) {
+                return upstream.hide();
+            }
+        };
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+public class HedgeTest {
+
+    @Test
+    public void secondCopyWins() {
+        final TestScheduler scheduler = new TestScheduler();
+        final Hedge hedge = Hedge.after(100, TimeUnit.MILLISECONDS, scheduler);
+        final PublishSubject<Integer> slow = PublishSubject.create();
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final TestObserver<Integer> observer = Observable.defer(new Callable<ObservableSource<Integer>>() {
+            @Override
+            public ObservableSource<Integer> call() {
+                return subscriptions.getAndIncrement() == 0 ? slow : Observable.just(2);
+            }
+        }).compose(hedge.<Integer>hedge()).test();
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS);
+        observer.assertNoValues();
+        Assert.assertEquals(hedge.hedged(), 0);
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        observer.assertResult(2);
+        Assert.assertEquals(hedge.hedged(), 1);
+        Assert.assertFalse(slow.hasObservers());
+    }
+
+    @Test
+    public void fastPrimaryIsNotHedged() {
+        final TestScheduler scheduler = new TestScheduler();
+        final Hedge hedge = Hedge.after(100, TimeUnit.MILLISECONDS, scheduler);
+        final TestObserver<Integer> observer = Observable.just(1).delay(10, TimeUnit.MILLISECONDS, scheduler).compose(hedge.<Integer>hedge()).test();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertResult(1);
+        Assert.assertEquals(hedge.hedged(), 0);
+    }
+
+    @Test
+    public void adaptsToPercentile() {
+        final TestScheduler scheduler = new TestScheduler();
+        final Hedge hedge = Hedge.adaptive(0.9, 10, 1000, 0, TimeUnit.MILLISECONDS, scheduler);
+        for (int i = 1; i <= 10; i++) {
+            Assert.assertEquals(hedge.delay(TimeUnit.SECONDS), 1);
+            Observable.just(i).delay(i, TimeUnit.MILLISECONDS, scheduler).compose(hedge.<Integer>hedge()).test();
+            scheduler.advanceTimeBy(i, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertEquals(hedge.delay(TimeUnit.MILLISECONDS), 9);
+        Assert.assertEquals(hedge.hedged(), 0);
+    }
+
+    @Test
+    public void samplesFirstSubscription() {
+        final TestScheduler scheduler = new TestScheduler();
+        final Hedge hedge = Hedge.adaptive(1, 1, 10, 0, TimeUnit.MILLISECONDS, scheduler);
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final TestObserver<Integer> observer = Observable.defer(new Callable<ObservableSource<Integer>>() {
+            @Override
+            public ObservableSource<Integer> call() {
+                return subscriptions.getAndIncrement() == 0 ? Observable.<Integer>never() : Observable.just(2).delay(5, TimeUnit.MILLISECONDS, scheduler);
+            }
+        }).compose(hedge.<Integer>hedge()).test();
+        scheduler.advanceTimeBy(15, TimeUnit.MILLISECONDS);
+        observer.assertResult(2);
+        Assert.assertEquals(hedge.delay(TimeUnit.MILLISECONDS), 15);
+    }
+
+    @Test
+    public void neverBelowMinDelay() {
+        final TestScheduler scheduler = new TestScheduler();
+        final Hedge hedge = Hedge.adaptive(0.9, 10, 100, 20, TimeUnit.MILLISECONDS, scheduler);
+        for (int i = 0; i < 10; i++) {
+            Observable.just(i).delay(1, TimeUnit.MILLISECONDS, scheduler).compose(hedge.<Integer>hedge()).test();
+            scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertEquals(hedge.delay(TimeUnit.MILLISECONDS), 20);
+    }
+}
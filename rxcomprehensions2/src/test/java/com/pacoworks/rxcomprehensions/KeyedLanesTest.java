@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public class KeyedLanesTest {
+
+    @Test
+    public void evictsIdleKeys() {
+        final KeyedLanes<String> lanes = new KeyedLanes<String>();
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        lanes.serialize("a", source(first)).test();
+        final TestObserver<Integer> queued = lanes.serialize("a", source(second)).test();
+        lanes.serialize("b", source(Observable.just(1))).test().assertResult(1);
+        Assert.assertEquals(lanes.size(), 1);
+        queued.dispose();
+        first.onComplete();
+        Assert.assertFalse(second.hasObservers());
+        Assert.assertEquals(lanes.size(), 0);
+    }
+
+    @Test
+    public void drainsSynchronousQueues() {
+        final KeyedLanes<String> lanes = new KeyedLanes<String>();
+        final PublishSubject<Integer> first = PublishSubject.create();
+        lanes.serialize("a", source(first)).test();
+        final AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 100000; i++) {
+            lanes.serialize("a", source(Observable.just(i))).subscribe(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer integer) {
+                    count.incrementAndGet();
+                }
+            });
+        }
+        first.onComplete();
+        Assert.assertEquals(count.get(), 100000);
+        Assert.assertEquals(lanes.size(), 0);
+    }
+
+    @Test
+    public void rejectsOverKeyQueue() {
+        final KeyedLanes<String> lanes = new KeyedLanes<String>(10, 1, KeyOverflow.ERROR);
+        final PublishSubject<Integer> first = PublishSubject.create();
+        lanes.serialize("a", source(first)).test();
+        final TestObserver<Integer> queued = lanes.serialize("a", source(Observable.just(2))).test();
+        lanes.serialize("a", source(Observable.just(3))).test().assertError(RejectedExecutionException.class);
+        lanes.serialize("b", source(Observable.just(4))).test().assertResult(4);
+        first.onComplete();
+        queued.assertResult(2);
+        Assert.assertEquals(lanes.size(), 0);
+    }
+
+    @Test
+    public void dropsOverKeyQueue() {
+        final KeyedLanes<String> lanes = new KeyedLanes<String>(10, 0, KeyOverflow.DROP);
+        final PublishSubject<Integer> first = PublishSubject.create();
+        lanes.serialize("a", source(first)).test();
+        lanes.serialize("a", source(Observable.just(2))).test().assertResult();
+        first.onComplete();
+        Assert.assertEquals(lanes.size(), 0);
+    }
+
+    @Test
+    public void rejectsOverKeyLimit() {
+        final KeyedLanes<String> lanes = new KeyedLanes<String>(1, 10, KeyOverflow.ERROR);
+        final PublishSubject<Integer> first = PublishSubject.create();
+        lanes.serialize("a", source(first)).test();
+        lanes.serialize("b", source(Observable.just(2))).test().assertError(RejectedExecutionException.class);
+        first.onComplete();
+        lanes.serialize("b", source(Observable.just(3))).test().assertResult(3);
+    }
+
+    @Test
+    public void dropsOverKeyLimit() {
+        final KeyedLanes<String> lanes = new KeyedLanes<String>(1, 10, KeyOverflow.DROP);
+        final PublishSubject<Integer> first = PublishSubject.create();
+        lanes.serialize("a", source(first)).test();
+        lanes.serialize("b", source(Observable.just(2))).test().assertResult();
+        Assert.assertEquals(lanes.size(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidBounds() {
+        new KeyedLanes<String>(0, 10, KeyOverflow.ERROR);
+    }
+
+    // region Helpers
+
+    private <T> Callable<Observable<T>> source(final Observable<T> observable) {
+        return new Callable<Observable<T>>() {
+            @Override
+            public Observable<T> call() {
+                return observable;
+            }
+        };
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class MappedSourcesTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void streamsLines() throws IOException {
+        final File file = write("a\nbb\r\n\nccc\ndddddddddddd\ne");
+        strings(MappedSources.lines(file, 4)).test().assertResult("a", "bb", "", "ccc", "dddddddddddd", "e");
+        strings(MappedSources.lines(file)).test().assertResult("a", "bb", "", "ccc", "dddddddddddd", "e");
+    }
+
+    @Test
+    public void ignoresTrailingNewline() throws IOException {
+        strings(MappedSources.lines(write("a\nb\n"), 3)).test().assertResult("a", "b");
+        strings(MappedSources.lines(write(""))).test().assertResult();
+    }
+
+    @Test
+    public void emitsReadOnlyViews() throws IOException {
+        final ByteBuffer line = MappedSources.lines(write("abc\ndef")).blockingFirst();
+        Assert.assertTrue(line.isReadOnly());
+        Assert.assertEquals(line.position(), 0);
+        Assert.assertEquals(line.remaining(), 3);
+    }
+
+    @Test
+    public void respectsBackpressure() throws IOException {
+        final TestSubscriber<String> subscriber = strings(MappedSources.lines(write("a\nb\nc"))).test(1);
+        subscriber.assertValues("a").assertNotComplete();
+        subscriber.request(2);
+        subscriber.assertResult("a", "b", "c");
+    }
+
+    @Test
+    public void streamsLengthDelimited() throws IOException {
+        final File file = folder.newFile();
+        final DataOutputStream output = new DataOutputStream(new FileOutputStream(file));
+        try {
+            for (String record : new String[] { "one", "", "a record longer than the region" }) {
+                output.writeInt(record.length());
+                output.write(record.getBytes(UTF_8));
+            }
+        } finally {
+            output.close();
+        }
+        strings(MappedSources.lengthDelimited(file, 8)).test().assertResult("one", "", "a record longer than the region");
+    }
+
+    @Test
+    public void failsOnTruncatedRecord() throws IOException {
+        final File file = folder.newFile();
+        final DataOutputStream output = new DataOutputStream(new FileOutputStream(file));
+        try {
+            output.writeInt(10);
+            output.write(new byte[] { 1, 2, 3 });
+        } finally {
+            output.close();
+        }
+        MappedSources.lengthDelimited(file).test().assertError(EOFException.class);
+    }
+
+    // region Helpers
+
+    private File write(String content) throws IOException {
+        final File file = folder.newFile();
+        final FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(content.getBytes(UTF_8));
+        } finally {
+            output.close();
+        }
+        return file;
+    }
+
+    private static Flowable<String> strings(Flowable<ByteBuffer> buffers) {
+        return buffers.map(new Function<ByteBuffer, String>() {
+            @Override
+            public String apply(ByteBuffer buffer) {
+                return UTF_8.decode(buffer).toString();
+            }
+        });
+    }
+
+    // endregion
+}
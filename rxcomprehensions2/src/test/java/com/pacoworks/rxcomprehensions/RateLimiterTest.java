@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class RateLimiterTest {
+
+    @Test
+    public void delaysOverBurst() {
+        final TestScheduler scheduler = new TestScheduler();
+        final RateLimiter limiter = RateLimiter.create(10, 2, scheduler);
+        Observable.just(1).compose(limiter.<Integer>limit()).test().assertResult(1);
+        Observable.just(2).compose(limiter.<Integer>limit()).test().assertResult(2);
+        final TestObserver<Integer> third = Observable.just(3).compose(limiter.<Integer>limit()).test();
+        final TestObserver<Integer> fourth = Observable.just(4).compose(limiter.<Integer>limit()).test();
+        third.assertNoValues();
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        third.assertResult(3);
+        fourth.assertNoValues();
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        fourth.assertResult(4);
+    }
+
+    @Test
+    public void refillsWhileQuiet() {
+        final TestScheduler scheduler = new TestScheduler();
+        final RateLimiter limiter = RateLimiter.create(10, 2, scheduler);
+        Observable.just(1).compose(limiter.<Integer>limit()).test();
+        Observable.just(2).compose(limiter.<Integer>limit()).test();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Observable.just(3).compose(limiter.<Integer>limit()).test().assertResult(3);
+        Observable.just(4).compose(limiter.<Integer>limit()).test().assertResult(4);
+    }
+
+    @Test
+    public void rejectsOverMaxWait() {
+        final TestScheduler scheduler = new TestScheduler();
+        final RateLimiter limiter = RateLimiter.create(10, 1, 150, TimeUnit.MILLISECONDS, scheduler);
+        Observable.just(1).compose(limiter.<Integer>limit()).test().assertResult(1);
+        Observable.just(2).compose(limiter.<Integer>limit()).test();
+        Observable.just(3).compose(limiter.<Integer>limit()).test().assertError(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void pacesWithBackpressure() {
+        final TestScheduler scheduler = new TestScheduler();
+        final RateLimiter limiter = RateLimiter.create(10, 1, scheduler);
+        final AtomicInteger emitted = new AtomicInteger();
+        final TestSubscriber<Integer> subscriber = Flowable.range(1, 100)
+                .doOnNext(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer integer) {
+                        emitted.incrementAndGet();
+                    }
+                })
+                .compose(limiter.<Integer>pace())
+                .test();
+        subscriber.assertValues(1);
+        Assert.assertTrue(emitted.get() <= 2);
+        scheduler.advanceTimeBy(200, TimeUnit.MILLISECONDS);
+        subscriber.assertValues(1, 2, 3);
+        Assert.assertTrue(emitted.get() <= 4);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResultTest {
+
+    @Test
+    public void holdsValue() {
+        final Result<Integer, String> result = Result.success(1);
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(result.value(), Integer.valueOf(1));
+        Assert.assertEquals(result, Result.<Integer, String>success(1));
+        Assert.assertNotEquals(result, Result.<Integer, Integer>failure(1));
+    }
+
+    @Test
+    public void holdsError() {
+        final Result<Integer, String> result = Result.failure("invalid");
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals(result.error(), "invalid");
+        Assert.assertEquals(result.toString(), "Failure(invalid)");
+        Assert.assertEquals(result.<Long>asFailure().error(), "invalid");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failureHasNoValue() {
+        Result.failure("invalid").value();
+    }
+}
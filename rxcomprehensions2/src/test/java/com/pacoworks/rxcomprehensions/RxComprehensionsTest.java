@@ -17,9 +17,18 @@
 package com.pacoworks.rxcomprehensions;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
-
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
@@ -33,9 +42,13 @@ import io.reactivex.functions.Function6;
 import io.reactivex.functions.Function7;
 import io.reactivex.functions.Function8;
 import io.reactivex.functions.Function9;
+import io.reactivex.functions.Predicate;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
 
 public class RxComprehensionsTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void oneFM() {
@@ -187,6 +200,137 @@ public class RxComprehensionsTest {
         observer.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
     }
 
+    @Test
+    public void oneFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(), one(true)).blockingFirst(), true);
+    }
+
+    @Test
+    public void twoFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(2), this.<Integer>sameKey(), one(true), two("result")).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineFMK() {
+        final TestObserver<Object> observer = TestObserver.create();
+        RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).subscribe(observer);
+        observer.awaitTerminalEvent();
+        observer.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void threeFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(3), this.<Integer>sameKey(), one(true), two("result"), three("other")).blockingFirst(), "other");
+    }
+
+    @Test
+    public void fourFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(4), this.<Integer>sameKey(), 1, 0, KeyOverflow.ERROR, one(true), two("result"), three("other"), four("other".length())).blockingFirst(), new Long("other".length()));
+    }
+
+    @Test
+    public void fiveFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5)).blockingFirst(), false);
+    }
+
+    @Test
+    public void sixFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(), 1, 0, KeyOverflow.ERROR, one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false))).blockingFirst(), "false");
+    }
+
+    @Test
+    public void sevenFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true")).blockingFirst(), false);
+    }
+
+    @Test
+    public void eightFMK() {
+        Assert.assertEquals(RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(), 1, 0, KeyOverflow.ERROR, one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class)).blockingFirst(), Long.class);
+    }
+
+    @Test
+    public void lanesPerSubscriptionFMK() {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final Iterator<PublishSubject<Integer>> inners = Arrays.asList(first, second).iterator();
+        final Observable<Integer> comprehension = RxComprehensions.doFlatMapByKey(zero(1), this.<Integer>sameKey(),
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        return inners.next();
+                    }
+                });
+        comprehension.test();
+        comprehension.test();
+        Assert.assertTrue(first.hasObservers());
+        Assert.assertTrue(second.hasObservers());
+    }
+
+    @Test
+    public void dropsOverQueueFMK() {
+        final PublishSubject<Integer> running = PublishSubject.create();
+        final Iterator<Observable<Integer>> inners = Arrays.<Observable<Integer>>asList(running, Observable.just(1), Observable.just(2)).iterator();
+        final TestObserver<Integer> observer = RxComprehensions.doFlatMapByKey(
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return Observable.range(0, 3);
+                    }
+                }, this.<Integer>sameKey(), 1, 1, KeyOverflow.DROP,
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        return inners.next();
+                    }
+                }).test();
+        running.onNext(0);
+        running.onComplete();
+        observer.assertResult(0, 1);
+    }
+
+    @Test
+    public void serialPerKeyFMK() {
+        final List<PublishSubject<Integer>> subjects = new ArrayList<PublishSubject<Integer>>();
+        for (int i = 0; i < 4; i++) {
+            subjects.add(PublishSubject.<Integer>create());
+        }
+        final TestObserver<Integer> observer = RxComprehensions.doFlatMapByKey(
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return Observable.range(0, 4);
+                    }
+                },
+                new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer integer) {
+                        return integer % 2;
+                    }
+                },
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        return subjects.get(integer);
+                    }
+                }).test();
+        Assert.assertTrue(subjects.get(0).hasObservers());
+        Assert.assertTrue(subjects.get(1).hasObservers());
+        Assert.assertFalse(subjects.get(2).hasObservers());
+        Assert.assertFalse(subjects.get(3).hasObservers());
+        subjects.get(1).onNext(1);
+        subjects.get(1).onComplete();
+        Assert.assertFalse(subjects.get(2).hasObservers());
+        Assert.assertTrue(subjects.get(3).hasObservers());
+        subjects.get(0).onNext(0);
+        subjects.get(0).onComplete();
+        Assert.assertTrue(subjects.get(2).hasObservers());
+        subjects.get(3).onNext(3);
+        subjects.get(3).onComplete();
+        subjects.get(2).onNext(2);
+        subjects.get(2).onComplete();
+        observer.assertResult(1, 0, 3, 2);
+    }
+
     @Test
     public void oneCo() {
         Assert.assertEquals((RxComprehensions.doCompose(zero(0), intIncrementToString()).blockingFirst()), "1");
@@ -232,6 +376,203 @@ public class RxComprehensionsTest {
         Assert.assertEquals((RxComprehensions.doCompose(zero(0), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString(), stringToInt(), intIncrementToString()).blockingFirst()), "5");
     }
 
+    @Test
+    public void compiledFM() {
+        final ObservableTransformer<Integer, String> compiled = RxComprehensions.compileFlatMap(one(true), two("result"));
+        Assert.assertEquals(Observable.just(1).compose(compiled).blockingFirst(), "result");
+        Assert.assertEquals(Observable.just(2).compose(compiled).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineCompiledFM() {
+        final TestObserver<Object> observer = TestObserver.create();
+        Observable.just(1).compose(RxComprehensions.compileFlatMap(one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine())).subscribe(observer);
+        observer.awaitTerminalEvent();
+        observer.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void compiledCM() {
+        final ObservableTransformer<Integer, String> compiled = RxComprehensions.compileConcatMap(one(true), two("result"));
+        Assert.assertEquals(Observable.just(1).compose(compiled).blockingFirst(), "result");
+        Assert.assertEquals(Observable.just(2).compose(compiled).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineCompiledCM() {
+        final TestObserver<Object> observer = TestObserver.create();
+        Observable.just(1).compose(RxComprehensions.compileConcatMap(one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine())).subscribe(observer);
+        observer.awaitTerminalEvent();
+        observer.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void compiledSM() {
+        final ObservableTransformer<Integer, String> compiled = RxComprehensions.compileSwitchMap(one(true), two("result"));
+        Assert.assertEquals(Observable.just(1).compose(compiled).blockingFirst(), "result");
+        Assert.assertEquals(Observable.just(2).compose(compiled).blockingFirst(), "result");
+    }
+
+    @Test
+    public void nineCompiledSM() {
+        final TestObserver<Object> observer = TestObserver.create();
+        Observable.just(1).compose(RxComprehensions.compileSwitchMap(one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine())).subscribe(observer);
+        observer.awaitTerminalEvent();
+        observer.assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+    }
+
+    @Test
+    public void compiledCo() {
+        final ObservableTransformer<Integer, String> compiled = RxComprehensions.compileCompose(intIncrementToString(), stringToInt(), intIncrementToString());
+        Assert.assertEquals(Observable.just(0).compose(compiled).blockingFirst(), "2");
+        Assert.assertEquals(Observable.just(5).compose(compiled).blockingFirst(), "7");
+    }
+
+    @Test
+    public void oneFF() {
+        Assert.assertEquals(RxComprehensions.doFlatMapFirst(zero(1), one(true)).blockingFirst(), true);
+    }
+
+    @Test
+    public void nineFF() {
+        RxComprehensions.doFlatMapFirst(zero(1), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).test().assertResult(1);
+    }
+
+    @Test
+    public void stopsAdmittingFF() {
+        final AtomicInteger calls = new AtomicInteger();
+        RxComprehensions.doFlatMapFirst(
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return Observable.range(0, 10);
+                    }
+                },
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        calls.incrementAndGet();
+                        return Observable.just(integer);
+                    }
+                }).test().assertResult(0);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void firstMatchFF() {
+        final List<PublishSubject<Integer>> subjects = new ArrayList<PublishSubject<Integer>>();
+        for (int i = 0; i < 3; i++) {
+            subjects.add(PublishSubject.<Integer>create());
+        }
+        final TestObserver<Integer> observer = RxComprehensions.doFlatMapFirstMatch(
+                new Callable<Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> call() {
+                        return Observable.range(0, 3);
+                    }
+                },
+                new Predicate<Integer>() {
+                    @Override
+                    public boolean test(Integer integer) {
+                        return integer > 0;
+                    }
+                },
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        return subjects.get(integer);
+                    }
+                },
+                new BiFunction<Integer, Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer, Integer integer2) {
+                        return Observable.just(integer2);
+                    }
+                }).test();
+        subjects.get(0).onNext(0);
+        observer.assertNoValues();
+        subjects.get(2).onNext(5);
+        observer.assertResult(5);
+        for (PublishSubject<Integer> subject : subjects) {
+            Assert.assertFalse(subject.hasObservers());
+        }
+    }
+
+    @Test
+    public void oneCMR() throws IOException {
+        final CheckpointJournal<Integer> journal = CheckpointJournal.open(folder.newFile(), integers());
+        RxComprehensions.doConcatMapResumable(zero(1), journal, this.<Integer>self(), one(true)).test().assertResult(true);
+        Assert.assertTrue(journal.isCompleted(1));
+    }
+
+    @Test
+    public void nineCMR() throws IOException {
+        final CheckpointJournal<Integer> journal = CheckpointJournal.open(folder.newFile(), integers());
+        RxComprehensions.doConcatMapResumable(zero(1), journal, this.<Integer>self(), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).test()
+                .assertResult(1, true, "result", "other", (long) "other".length(), "other".length() < 5, Boolean.toString(false), false, Long.class);
+        RxComprehensions.doConcatMapResumable(zero(1), journal, this.<Integer>self(), one(true), two("result"), three("other"), four("other".length()), five("other".length() < 5), six(Boolean.toString(false)), seven("true"), eight(Long.class), this.<Long>nine()).test()
+                .assertResult();
+    }
+
+    @Test
+    public void oneFMR() {
+        RxComprehensions.doFlatMapResult(zero(1), validate()).test().assertValue(Result.<Integer, String>success(1)).assertComplete();
+    }
+
+    @Test
+    public void threeFMR() {
+        RxComprehensions.doFlatMapResult(zero(1), validate(), validateSum(), validateSum3()).test().assertValue(Result.<Integer, String>success(1 + 1 + 2)).assertComplete();
+    }
+
+    @Test
+    public void shortCircuitsFMR() {
+        final AtomicInteger calls = new AtomicInteger();
+        RxComprehensions.doFlatMapResult(zero(-1), validate(),
+                new BiFunction<Integer, Integer, Observable<Result<Integer, String>>>() {
+                    @Override
+                    public Observable<Result<Integer, String>> apply(Integer integer, Integer integer2) {
+                        calls.incrementAndGet();
+                        return Observable.just(Result.<Integer, String>success(integer2));
+                    }
+                }).test().assertValue(Result.<Integer, String>failure("negative: -1")).assertComplete();
+        Assert.assertEquals(calls.get(), 0);
+    }
+
+    @Test
+    public void twoZip() {
+        Assert.assertEquals(RxComprehensions.doZip(zero(3), plus(1), plus(2), sum()).blockingFirst(), Integer.valueOf(3 + 4 + 5));
+    }
+
+    @Test
+    public void eightZip() {
+        Assert.assertEquals(RxComprehensions.doZip(zero(0), plus(1), plus(2), plus(3), plus(4), plus(5), plus(6), plus(7), plus(8), sumAll()).blockingFirst(), Integer.valueOf(36));
+    }
+
+    @Test
+    public void independentZip() {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Integer> observer = RxComprehensions.doZip(zero(1),
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        return first;
+                    }
+                },
+                new Function<Integer, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(Integer integer) {
+                        return second;
+                    }
+                }, sum()).test();
+        Assert.assertTrue(first.hasObservers());
+        Assert.assertTrue(second.hasObservers());
+        second.onNext(20);
+        observer.assertNoValues();
+        first.onNext(10);
+        observer.assertValue(1 + 10 + 20);
+    }
+
     // region Helpers
 
     private Callable<Observable<Integer>> zero(final int i) {
@@ -243,6 +584,38 @@ public class RxComprehensionsTest {
         };
     }
 
+    private <T> Function<T, String> sameKey() {
+        return new Function<T, String>() {
+            @Override
+            public String apply(T t) {
+                return "key";
+            }
+        };
+    }
+
+    private <T> Function<T, T> self() {
+        return new Function<T, T>() {
+            @Override
+            public T apply(T t) {
+                return t;
+            }
+        };
+    }
+
+    private static Serializer<Integer> integers() {
+        return new Serializer<Integer>() {
+            @Override
+            public byte[] serialize(Integer value) {
+                return ByteBuffer.allocate(4).putInt(value).array();
+            }
+
+            @Override
+            public Integer deserialize(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+    }
+
     private Function<Integer, Observable<Boolean>> one(final boolean value) {
         return new Function<Integer, Observable<Boolean>>() {
             @Override
@@ -352,6 +725,60 @@ public class RxComprehensionsTest {
         };
     }
 
+    private Function<Integer, Observable<Result<Integer, String>>> validate() {
+        return new Function<Integer, Observable<Result<Integer, String>>>() {
+            @Override
+            public Observable<Result<Integer, String>> apply(Integer integer) {
+                return Observable.just(integer < 0 ? Result.<Integer, String>failure("negative: " + integer) : Result.<Integer, String>success(integer));
+            }
+        };
+    }
+
+    private BiFunction<Integer, Integer, Observable<Result<Integer, String>>> validateSum() {
+        return new BiFunction<Integer, Integer, Observable<Result<Integer, String>>>() {
+            @Override
+            public Observable<Result<Integer, String>> apply(Integer integer, Integer integer2) {
+                return Observable.just(Result.<Integer, String>success(integer + integer2));
+            }
+        };
+    }
+
+    private Function3<Integer, Integer, Integer, Observable<Result<Integer, String>>> validateSum3() {
+        return new Function3<Integer, Integer, Integer, Observable<Result<Integer, String>>>() {
+            @Override
+            public Observable<Result<Integer, String>> apply(Integer integer, Integer integer2, Integer integer3) {
+                return Observable.just(Result.<Integer, String>success(integer + integer2 + integer3));
+            }
+        };
+    }
+
+    private Function<Integer, Observable<Integer>> plus(final int value) {
+        return new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return Observable.just(integer + value);
+            }
+        };
+    }
+
+    private Function3<Integer, Integer, Integer, Observable<Integer>> sum() {
+        return new Function3<Integer, Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2, Integer integer3) {
+                return Observable.just(integer + integer2 + integer3);
+            }
+        };
+    }
+
+    private Function9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>> sumAll() {
+        return new Function9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2, Integer integer3, Integer integer4, Integer integer5, Integer integer6, Integer integer7, Integer integer8, Integer integer9) {
+                return Observable.just(integer + integer2 + integer3 + integer4 + integer5 + integer6 + integer7 + integer8 + integer9);
+            }
+        };
+    }
+
     // endregion
 
 }
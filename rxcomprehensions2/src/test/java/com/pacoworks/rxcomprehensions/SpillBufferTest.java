@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class SpillBufferTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void spillsInOrder() throws IOException {
+        final File directory = folder.newFolder();
+        final AtomicInteger produced = new AtomicInteger();
+        final TestSubscriber<Integer> subscriber = Flowable.range(0, 1000)
+                .doOnNext(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer integer) {
+                        produced.incrementAndGet();
+                    }
+                })
+                .compose(SpillBuffer.spill(directory, integers(), 10))
+                .test(0);
+        Assert.assertEquals(produced.get(), 1000);
+        Assert.assertEquals(directory.list().length, 1);
+        subscriber.request(15);
+        subscriber.assertValueCount(15);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertValueSequence(range(1000)).assertComplete();
+        Assert.assertEquals(directory.list().length, 0);
+    }
+
+    @Test
+    public void spillsAcrossThreads() throws IOException {
+        final File directory = folder.newFolder();
+        final TestSubscriber<Integer> subscriber = Flowable.range(0, 10000)
+                .subscribeOn(Schedulers.io())
+                .compose(SpillBuffer.spill(directory, integers(), 16))
+                .observeOn(Schedulers.computation(), false, 4)
+                .test();
+        subscriber.awaitTerminalEvent();
+        subscriber.assertValueSequence(range(10000)).assertComplete();
+        Assert.assertEquals(directory.list().length, 0);
+    }
+
+    @Test
+    public void deletesFileOnCancel() throws IOException {
+        final File directory = folder.newFolder();
+        final TestSubscriber<Integer> subscriber = Flowable.range(0, 100).compose(SpillBuffer.spill(directory, integers(), 10)).test(1);
+        Assert.assertEquals(directory.list().length, 1);
+        subscriber.cancel();
+        Assert.assertEquals(directory.list().length, 0);
+    }
+
+    @Test
+    public void failsOnSerializerError() throws IOException {
+        final Serializer<Integer> failing = new Serializer<Integer>() {
+            @Override
+            public byte[] serialize(Integer value) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public Integer deserialize(byte[] bytes) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        final TestSubscriber<Integer> subscriber = Flowable.range(0, 3).compose(SpillBuffer.spill(folder.newFolder(), failing, 2)).test(0);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertValues(0, 1).assertError(IOException.class);
+    }
+
+    @Test
+    public void delaysErrorsUntilBufferDrains() throws IOException {
+        final IllegalStateException error = new IllegalStateException();
+        final TestSubscriber<Integer> subscriber = Flowable.range(0, 3).concatWith(Flowable.<Integer>error(error))
+                .compose(SpillBuffer.spill(folder.newFolder(), integers(), 1))
+                .test(0);
+        subscriber.assertNoValues().assertNoErrors();
+        subscriber.request(2);
+        subscriber.assertValues(0, 1).assertNoErrors();
+        subscriber.request(1);
+        subscriber.assertValues(0, 1, 2).assertError(error);
+    }
+
+    @Test
+    public void failsOnNonPositiveRequest() throws IOException {
+        final File directory = folder.newFolder();
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        Flowable.range(0, 100).compose(SpillBuffer.spill(directory, integers(), 10)).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onNext(Integer integer) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Assert.assertTrue(error.get() instanceof IllegalArgumentException);
+        Assert.assertEquals(directory.list().length, 0);
+    }
+
+    // region Helpers
+
+    private static List<Integer> range(int count) {
+        final List<Integer> values = new ArrayList<Integer>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    private static Serializer<Integer> integers() {
+        return new Serializer<Integer>() {
+            @Override
+            public byte[] serialize(Integer value) {
+                return ByteBuffer.allocate(4).putInt(value).array();
+            }
+
+            @Override
+            public Integer deserialize(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+    }
+
+    // endregion
+}
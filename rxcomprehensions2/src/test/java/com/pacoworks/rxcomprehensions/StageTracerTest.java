@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+
+public class StageTracerTest {
+
+    @After
+    public void tearDown() {
+        StageTracer.stopPropagatingAcrossSchedulers();
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    public void linksStagesToParents() {
+        final InMemorySpanCollector collector = new InMemorySpanCollector();
+        final StageTracer tracer = StageTracer.create(collector);
+        RxComprehensions.doFlatMap(zero(1), traced(tracer, "one"), tracedSum(tracer, "two")).test().assertResult(2);
+        final List<Span> spans = collector.spans();
+        Assert.assertEquals(spans.size(), 2);
+        final Span two = spans.get(0);
+        final Span one = spans.get(1);
+        Assert.assertEquals(one.name(), "one");
+        Assert.assertEquals(two.name(), "two");
+        Assert.assertEquals(one.parentId(), 0);
+        Assert.assertEquals(two.parentId(), one.id());
+        Assert.assertTrue(one.durationNanos() >= two.durationNanos());
+    }
+
+    @Test
+    public void propagatesAcrossSchedulers() {
+        StageTracer.propagateAcrossSchedulers();
+        final InMemorySpanCollector collector = new InMemorySpanCollector();
+        final StageTracer tracer = StageTracer.create(collector);
+        final Span current = Observable.fromCallable(new Callable<Span>() {
+            @Override
+            public Span call() {
+                return StageTracer.current();
+            }
+        }).subscribeOn(Schedulers.single()).compose(tracer.<Span>trace("remote")).blockingFirst();
+        Assert.assertEquals(current, collector.spans().get(0));
+    }
+
+    @Test
+    public void wrapsAndRestoresScheduleHandler() {
+        final AtomicInteger scheduled = new AtomicInteger();
+        final Function<Runnable, Runnable> existing = new Function<Runnable, Runnable>() {
+            @Override
+            public Runnable apply(Runnable runnable) {
+                scheduled.incrementAndGet();
+                return runnable;
+            }
+        };
+        RxJavaPlugins.setScheduleHandler(existing);
+        StageTracer.propagateAcrossSchedulers();
+        Observable.just(1).subscribeOn(Schedulers.single()).blockingFirst();
+        Assert.assertEquals(scheduled.get(), 1);
+        StageTracer.stopPropagatingAcrossSchedulers();
+        Assert.assertSame(RxJavaPlugins.getScheduleHandler(), existing);
+    }
+
+    @Test
+    public void reinstallsAfterReset() {
+        StageTracer.propagateAcrossSchedulers();
+        RxJavaPlugins.reset();
+        StageTracer.propagateAcrossSchedulers();
+        Assert.assertNotNull(RxJavaPlugins.getScheduleHandler());
+        StageTracer.stopPropagatingAcrossSchedulers();
+        Assert.assertNull(RxJavaPlugins.getScheduleHandler());
+    }
+
+    @Test
+    public void recordsErrors() {
+        final InMemorySpanCollector collector = new InMemorySpanCollector();
+        final StageTracer tracer = StageTracer.create(collector);
+        final IllegalStateException error = new IllegalStateException();
+        Observable.error(error).compose(tracer.trace("failing")).test().assertError(error);
+        Assert.assertSame(collector.spans().get(0).error(), error);
+    }
+
+    @Test
+    public void endsOnDispose() {
+        final InMemorySpanCollector collector = new InMemorySpanCollector();
+        final StageTracer tracer = StageTracer.create(collector);
+        Observable.never().compose(tracer.trace("never")).test().dispose();
+        Assert.assertEquals(collector.spans().size(), 1);
+        Assert.assertNull(StageTracer.current());
+    }
+
+    // region Helpers
+
+    private Callable<Observable<Integer>> zero(final int i) {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.just(i);
+            }
+        };
+    }
+
+    private Function<Integer, Observable<Integer>> traced(final StageTracer tracer, final String name) {
+        return new Function<Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer) {
+                return Observable.just(integer).compose(tracer.<Integer>trace(name));
+            }
+        };
+    }
+
+    private BiFunction<Integer, Integer, Observable<Integer>> tracedSum(final StageTracer tracer, final String name) {
+        return new BiFunction<Integer, Integer, Observable<Integer>>() {
+            @Override
+            public Observable<Integer> apply(Integer integer, Integer integer2) {
+                return Observable.just(integer + integer2).compose(tracer.<Integer>trace(name));
+            }
+        };
+    }
+
+    // endregion
+
+}
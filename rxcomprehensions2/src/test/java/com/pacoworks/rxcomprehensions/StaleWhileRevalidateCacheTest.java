@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pacoworks.rxcomprehensions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+public class StaleWhileRevalidateCacheTest {
+
+    @Test
+    public void servesFreshValues() {
+        final TestScheduler scheduler = new TestScheduler();
+        final StaleWhileRevalidateCache<String, Integer> cache = StaleWhileRevalidateCache.create(1, 10, TimeUnit.SECONDS, 10, scheduler);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get("key", counting(loads)).test().assertResult(1);
+        cache.get("key", counting(loads)).test().assertResult(1);
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void servesStaleWhileRefreshing() {
+        final TestScheduler scheduler = new TestScheduler();
+        final StaleWhileRevalidateCache<String, Integer> cache = StaleWhileRevalidateCache.create(1, 10, TimeUnit.SECONDS, 10, scheduler);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get("key", counting(loads)).test().assertResult(1);
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        cache.get("key", counting(loads)).test().assertResult(1);
+        cache.get("key", counting(loads)).test().assertResult(1);
+        scheduler.triggerActions();
+        Assert.assertEquals(loads.get(), 2);
+        cache.get("key", counting(loads)).test().assertResult(2);
+    }
+
+    @Test
+    public void keepsStaleOnFailedRefresh() {
+        final TestScheduler scheduler = new TestScheduler();
+        final StaleWhileRevalidateCache<String, Integer> cache = StaleWhileRevalidateCache.create(1, 10, TimeUnit.SECONDS, 10, scheduler);
+        cache.get("key", counting(new AtomicInteger())).test().assertResult(1);
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        cache.get("key", new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.error(new IllegalStateException());
+            }
+        }).test().assertResult(1);
+        scheduler.triggerActions();
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void loadsExpiredValues() {
+        final TestScheduler scheduler = new TestScheduler();
+        final StaleWhileRevalidateCache<String, Integer> cache = StaleWhileRevalidateCache.create(1, 10, TimeUnit.SECONDS, 10, scheduler);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get("key", counting(loads)).test().assertResult(1);
+        scheduler.advanceTimeBy(12, TimeUnit.SECONDS);
+        cache.get("key", counting(loads)).test().assertResult(2);
+    }
+
+    @Test
+    public void sharesLoads() {
+        final TestScheduler scheduler = new TestScheduler();
+        final StaleWhileRevalidateCache<String, Integer> cache = StaleWhileRevalidateCache.create(1, 10, TimeUnit.SECONDS, 10, scheduler);
+        final PublishSubject<Integer> source = PublishSubject.create();
+        final AtomicInteger loads = new AtomicInteger();
+        final Callable<Observable<Integer>> loader = new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                loads.incrementAndGet();
+                return source;
+            }
+        };
+        final TestObserver<Integer> first = cache.get("key", loader).test();
+        final TestObserver<Integer> second = cache.get("key", loader).test();
+        source.onNext(5);
+        first.assertResult(5);
+        second.assertResult(5);
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        final TestScheduler scheduler = new TestScheduler();
+        final StaleWhileRevalidateCache<String, Integer> cache = StaleWhileRevalidateCache.create(1, 10, TimeUnit.SECONDS, 2, scheduler);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get("a", counting(loads)).test();
+        cache.get("b", counting(loads)).test();
+        cache.get("a", counting(loads)).test();
+        cache.get("c", counting(loads)).test();
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(loads.get(), 3);
+        cache.get("a", counting(loads)).test().assertResult(1);
+        cache.get("b", counting(loads)).test().assertResult(4);
+    }
+
+    // region Helpers
+
+    private static Callable<Observable<Integer>> counting(final AtomicInteger loads) {
+        return new Callable<Observable<Integer>>() {
+            @Override
+            public Observable<Integer> call() {
+                return Observable.just(loads.incrementAndGet());
+            }
+        };
+    }
+
+    // endregion
+}